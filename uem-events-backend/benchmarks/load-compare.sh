@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Compara o pool de threads do Tomcat com o perfil virtual-threads, com 1000 e 10000
+# clientes simultâneos. Requer Java 21 (JAVA_HOME) e o jar do backend já construído.
+#
+#   ./load-compare.sh [cenário] [duração]     ex.: ./load-compare.sh mixed 60s
+set -euo pipefail
+
+cd "$(dirname "$0")"
+SCENARIO=${1:-read}
+DURATION=${2:-30s}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+JAR=../target/uem-events-backend-1.0.0-exec.jar
+PORT=18080
+
+mvn -q compile
+
+for PROFILES in dev dev,virtual-threads; do
+    "$JAVA" -jar "$JAR" --server.port=$PORT --spring.profiles.active=$PROFILES \
+        --logging.level.root=WARN --logging.level.mz.uem.events=WARN \
+        --logging.level.org.hibernate.SQL=WARN --spring.jpa.show-sql=false > "results/app-$PROFILES.log" 2>&1 &
+    APP=$!
+    trap 'kill $APP 2>/dev/null' EXIT
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 1; done
+
+    for CLIENTS in 1000 10000; do
+        echo "== perfil $PROFILES"
+        mvn -q exec:java@load -Dexec.args="url=http://localhost:$PORT clients=$CLIENTS duration=$DURATION scenario=$SCENARIO"
+    done
+
+    kill $APP
+    wait $APP 2>/dev/null || true
+done
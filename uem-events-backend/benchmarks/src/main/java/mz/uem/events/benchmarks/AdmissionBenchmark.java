@@ -0,0 +1,75 @@
+package mz.uem.events.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mz.uem.events.config.AdmissionProperties;
+import mz.uem.events.service.RegistrationAdmission;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do controlo de admissão por pedido de inscrição, sem base de dados
+ *
+ * limits = open: limites que nunca recusam (caminho admitido);
+ * tight: 1 pedido/s por evento, quase todos recusados (caminho do 429).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AdmissionBenchmark {
+
+    @Param({"open", "tight"})
+    String limits;
+
+    @Param({"1000"})
+    int events;
+
+    private RegistrationAdmission admission;
+
+    @Setup
+    public void setUp() {
+        AdmissionProperties properties = new AdmissionProperties();
+        if ("open".equals(limits)) {
+            properties.setGlobalRate(1e9);
+            properties.setGlobalBurst(Integer.MAX_VALUE / 2);
+            properties.setEventRate(1e9);
+            properties.setEventBurst(Integer.MAX_VALUE / 2);
+        } else {
+            properties.setEventRate(1);
+            properties.setEventBurst(1);
+        }
+        admission = new RegistrationAdmission(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Todos os pedidos no mesmo evento (disputa do mesmo bucket)
+     */
+    @Benchmark
+    public long hotEvent() {
+        return admission.tryAdmit(1L);
+    }
+
+    /**
+     * Pedidos espalhados por vários eventos (só o bucket global é partilhado)
+     */
+    @Benchmark
+    public long spreadEvents() {
+        return admission.tryAdmit((long) ThreadLocalRandom.current().nextInt(events) + 1);
+    }
+}
@@ -0,0 +1,93 @@
+package mz.uem.events.benchmarks;
+
+import mz.uem.events.UemEventsApplication;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.Event;
+import mz.uem.events.repository.EventRepository;
+import mz.uem.events.service.EventChangedEvent;
+import mz.uem.events.service.EventMapper;
+import mz.uem.events.service.EventSearchIndex;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Arranque da aplicação (sem servidor web) sobre uma base H2 em memória própria
+ */
+final class BenchmarkContext {
+
+    private static final int SEED_CHUNK = 1000;
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * As propriedades seguem como argumentos de linha de comando: as "default properties"
+     * do builder perderiam para o application.yml
+     */
+    static ConfigurableApplicationContext start(Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        String database = "bench-" + UUID.randomUUID();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        properties.put("uem.events.reactive.url", "r2dbc:h2:mem:///" + database);
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.h2.console.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.mz.uem.events", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.putAll(overrides);
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(UemEventsApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(args);
+    }
+
+    /**
+     * Grava eventos sintéticos em blocos (uma transação por bloco) e devolve os seus IDs.
+     * A criação é notificada como no EventService, para que o índice de pesquisa os inclua.
+     */
+    static List<Long> seed(ConfigurableApplicationContext context, int count, long randomSeed) {
+        EventRepository repository = context.getBean(EventRepository.class);
+        EventMapper mapper = context.getBean(EventMapper.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        Random random = new Random(randomSeed);
+        List<Long> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += SEED_CHUNK) {
+            List<Event> chunk = new ArrayList<>(SEED_CHUNK);
+            for (int i = from; i < Math.min(count, from + SEED_CHUNK); i++) {
+                chunk.add(BenchmarkFixtures.event(i, random));
+            }
+            List<EventDTO> created = transactionTemplate.execute(status ->
+                    repository.saveAll(chunk).stream().map(mapper::toDTO).toList());
+            for (EventDTO event : created) {
+                ids.add(event.getId());
+                context.publishEvent(new EventChangedEvent(event.getId(), EventChangedEvent.ChangeType.CREATED, event));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Espera que o índice de pesquisa (construído em segundo plano) fique pronto
+     */
+    static void awaitSearchIndex(ConfigurableApplicationContext context) throws InterruptedException {
+        EventSearchIndex index = context.getBean(EventSearchIndex.class);
+        while (!index.isReady()) {
+            Thread.sleep(50);
+        }
+    }
+}
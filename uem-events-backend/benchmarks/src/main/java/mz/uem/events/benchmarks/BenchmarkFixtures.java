@@ -0,0 +1,64 @@
+package mz.uem.events.benchmarks;
+
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Eventos sintéticos com tamanhos de texto e número de tags próximos dos reais
+ */
+final class BenchmarkFixtures {
+
+    private static final EventCategory[] CATEGORIES = EventCategory.values();
+    private static final String[] TAGS = {
+            "ciência", "tecnologia", "pesquisa", "inovação", "estudantes", "carreira",
+            "cultura", "desporto", "saúde", "engenharia", "direito", "economia"
+    };
+    private static final String DESCRIPTION = "Apresentação dos trabalhos de investigação desenvolvidos pelos "
+            + "estudantes da Universidade Eduardo Mondlane, seguida de debate com docentes convidados e "
+            + "sessão de networking. Inscrições limitadas à capacidade da sala. ";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Evento não persistido (sem ID nem datas de auditoria), futuro e com vagas
+     */
+    static Event event(int index, Random random) {
+        List<String> tags = new ArrayList<>();
+        int tagCount = 1 + random.nextInt(4);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(TAGS[random.nextInt(TAGS.length)]);
+        }
+        int maxCapacity = 50 + random.nextInt(450);
+        return Event.builder()
+                .title("Seminário de Pesquisa " + index)
+                .description(DESCRIPTION.repeat(1 + random.nextInt(3)))
+                .eventDate(LocalDateTime.now().plusDays(1).plusMinutes(index))
+                .location("Campus Principal - Sala " + (1 + random.nextInt(40)))
+                .organizer("Faculdade " + (1 + random.nextInt(12)) + " - UEM")
+                .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                .maxCapacity(maxCapacity)
+                .currentRegistrations(random.nextInt(maxCapacity + 1))
+                .status(EventStatus.UPCOMING)
+                .imageUrl("https://www.uem.mz/imagens/evento-" + index + ".jpg")
+                .tags(tags)
+                .build();
+    }
+
+    /**
+     * Evento como carregado da base de dados (com ID e datas de auditoria)
+     */
+    static Event persistedEvent(long id, Random random) {
+        Event event = event((int) id, random);
+        event.setId(id);
+        event.setCreatedAt(LocalDateTime.now().minusDays(1));
+        event.setUpdatedAt(LocalDateTime.now());
+        return event;
+    }
+}
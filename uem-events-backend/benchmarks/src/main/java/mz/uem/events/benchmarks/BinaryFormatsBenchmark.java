@@ -0,0 +1,117 @@
+package mz.uem.events.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import mz.uem.events.config.BinaryContentConfig;
+import mz.uem.events.dto.EventCardDTO;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.Event;
+import mz.uem.events.service.EventMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codificação e descodificação das respostas em JSON, CBOR e Smile: página de cards
+ * e detalhe de um evento. Os ObjectMapper são configurados como na aplicação (datas
+ * ISO-8601, conversores de BinaryContentConfig). O tamanho de cada resposta é
+ * mostrado no arranque de cada combinação de parâmetros.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryFormatsBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<EventCardDTO> page;
+    private EventDTO detail;
+    private byte[] encodedPage;
+    private byte[] encodedDetail;
+
+    /**
+     * Forma da página do lado de quem a consome
+     */
+    public static class CardPage {
+        public List<EventCardDTO> content;
+        public long totalElements;
+        public int totalPages;
+        public int number;
+        public int size;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = switch (format) {
+            case "cbor" -> BinaryContentConfig.cborMapper(builder());
+            case "smile" -> BinaryContentConfig.smileMapper(builder());
+            default -> builder().build();
+        };
+        EventMapper mapper = new EventMapper(null);
+        Random random = new Random(42);
+        List<EventCardDTO> cards = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Event event = BenchmarkFixtures.persistedEvent(i + 1, random);
+            cards.add(mapper.toCardDTO(event, event.getTags()));
+        }
+        page = new PageImpl<>(cards, PageRequest.of(3, pageSize, Sort.by("eventDate")), 10_000);
+        detail = mapper.toDTO(BenchmarkFixtures.persistedEvent(1, random));
+        encodedPage = encodePage();
+        encodedDetail = encodeDetail();
+        System.out.printf("%n# %s: página de %d cards %d bytes, detalhe %d bytes%n",
+                format, pageSize, encodedPage.length, encodedDetail.length);
+    }
+
+    /**
+     * Mesmas opções que o Spring Boot aplica ao seu builder
+     */
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public CardPage decodePage() throws Exception {
+        return objectMapper.readValue(encodedPage, CardPage.class);
+    }
+
+    @Benchmark
+    public byte[] encodeDetail() throws Exception {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public EventDTO decodeDetail() throws Exception {
+        return objectMapper.readValue(encodedDetail, EventDTO.class);
+    }
+}
@@ -0,0 +1,122 @@
+package mz.uem.events.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara dois ficheiros de resultados JMH (-rf json), por exemplo de dois commits.
+ *
+ * Uma diferença só é assinalada quando os intervalos de erro (99,9%) não se
+ * sobrepõem e a variação excede o limiar (5% por omissão):
+ * <pre>
+ * mvn exec:java@compare -Dexec.args="results/base.json results/novo.json [limiar%]"
+ * </pre>
+ */
+public final class CompareResults {
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: CompareResults <base.json> <novo.json> [limiar%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 5.0;
+        Map<String, JsonNode> base = load(Path.of(args[0]));
+        Map<String, JsonNode> candidate = load(Path.of(args[1]));
+
+        System.out.printf(Locale.ROOT, "%-72s %22s %22s %9s  %s%n", "Benchmark", "Base", "Novo", "Variação", "");
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+            JsonNode before = base.get(entry.getKey());
+            JsonNode after = entry.getValue().get("primaryMetric");
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-72s %22s %22s%n", entry.getKey(), "-", format(after));
+                continue;
+            }
+            before = before.get("primaryMetric");
+            double oldScore = before.get("score").asDouble();
+            double newScore = after.get("score").asDouble();
+            double change = (newScore - oldScore) / oldScore * 100;
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().get("mode").asText());
+            boolean improved = higherIsBetter ? change > 0 : change < 0;
+
+            String verdict = "";
+            if (Math.abs(change) >= threshold && !overlap(before, after)) {
+                verdict = improved ? "melhor" : "PIOR";
+                if (!improved) {
+                    regressions++;
+                }
+            }
+            System.out.printf(Locale.ROOT, "%-72s %22s %22s %+8.1f%%  %s%n",
+                    entry.getKey(), format(before), format(after), change, verdict);
+        }
+        base.keySet().stream()
+                .filter(key -> !candidate.containsKey(key))
+                .forEach(key -> System.out.printf(Locale.ROOT, "%-72s %22s %22s%n", key, format(base.get(key).get("primaryMetric")), "-"));
+
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%n%d benchmark(s) pior(es) acima de %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Resultados indexados por nome do benchmark e parâmetros
+     */
+    private static Map<String, JsonNode> load(Path file) throws IOException {
+        Map<String, JsonNode> results = new TreeMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            String name = result.get("benchmark").asText().replace("mz.uem.events.benchmarks.", "");
+            Map<String, String> params = new LinkedHashMap<>();
+            JsonNode paramsNode = result.get("params");
+            if (paramsNode != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = paramsNode.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    params.put(field.getKey(), field.getValue().asText());
+                }
+            }
+            String key = params.isEmpty() ? name : name + params;
+            if (result.hasNonNull("threads") && result.get("threads").asInt() > 1) {
+                key += " x" + result.get("threads").asInt();
+            }
+            results.put(key, result);
+        }
+        return results;
+    }
+
+    private static boolean overlap(JsonNode before, JsonNode after) {
+        double[] first = interval(before);
+        double[] second = interval(after);
+        return first[0] <= second[1] && second[0] <= first[1];
+    }
+
+    private static double[] interval(JsonNode metric) {
+        JsonNode confidence = metric.get("scoreConfidence");
+        double low = confidence.get(0).asDouble();
+        double high = confidence.get(1).asDouble();
+        if (Double.isNaN(low) || Double.isNaN(high)) {
+            double score = metric.get("score").asDouble();
+            return new double[]{score, score};
+        }
+        return new double[]{low, high};
+    }
+
+    private static String format(JsonNode metric) {
+        double error = metric.get("scoreError").asDouble();
+        String unit = metric.get("scoreUnit").asText();
+        return Double.isNaN(error)
+                ? String.format(Locale.ROOT, "%.3f %s", metric.get("score").asDouble(), unit)
+                : String.format(Locale.ROOT, "%.3f ± %.3f %s", metric.get("score").asDouble(), error, unit);
+    }
+}
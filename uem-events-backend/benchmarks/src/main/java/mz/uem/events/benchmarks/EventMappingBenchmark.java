@@ -0,0 +1,77 @@
+package mz.uem.events.benchmarks;
+
+import mz.uem.events.dto.EventCardDTO;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.Event;
+import mz.uem.events.service.EventMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão entidade -> DTO (EventMapper), sem base de dados
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventMappingBenchmark {
+
+    @Param({"20"})
+    int pageSize;
+
+    private EventMapper mapper;
+    private Event event;
+    private List<Event> page;
+
+    @Setup
+    public void setUp() {
+        // O repositório só é usado para carregar tags em lote, fora destes benchmarks
+        mapper = new EventMapper(null);
+        Random random = new Random(42);
+        event = BenchmarkFixtures.persistedEvent(1, random);
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(BenchmarkFixtures.persistedEvent(i + 1, random));
+        }
+    }
+
+    @Benchmark
+    public EventDTO toDTO() {
+        return mapper.toDTO(event);
+    }
+
+    @Benchmark
+    public EventCardDTO toCardDTO() {
+        return mapper.toCardDTO(event, event.getTags());
+    }
+
+    @Benchmark
+    public List<EventCardDTO> toCardDTOsOfPage() {
+        List<EventCardDTO> cards = new ArrayList<>(page.size());
+        for (Event item : page) {
+            cards.add(mapper.toCardDTO(item, item.getTags()));
+        }
+        return cards;
+    }
+
+    @Benchmark
+    public EventDTO withRegistrations() {
+        return mapper.withRegistrations(mapper.toDTO(event), event.getCurrentRegistrations() + 1);
+    }
+}
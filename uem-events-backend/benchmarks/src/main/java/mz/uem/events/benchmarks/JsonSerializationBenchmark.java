@@ -0,0 +1,77 @@
+package mz.uem.events.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mz.uem.events.dto.EventCardDTO;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.Event;
+import mz.uem.events.service.EventMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson das respostas típicas: página de cards e detalhe de um evento.
+ * O ObjectMapper é criado pelo mesmo builder que o Spring Boot usa.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "50"})
+    int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<EventCardDTO> page;
+    private EventDTO detail;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        EventMapper mapper = new EventMapper(null);
+        Random random = new Random(42);
+        List<EventCardDTO> cards = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Event event = BenchmarkFixtures.persistedEvent(i + 1, random);
+            cards.add(mapper.toCardDTO(event, event.getTags()));
+        }
+        page = new PageImpl<>(cards, PageRequest.of(3, pageSize, Sort.by("eventDate")), 10_000);
+        detail = mapper.toDTO(BenchmarkFixtures.persistedEvent(1, random));
+    }
+
+    @Benchmark
+    public byte[] cardPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cardList() throws Exception {
+        return objectMapper.writeValueAsBytes(page.getContent());
+    }
+
+    @Benchmark
+    public byte[] eventDetail() throws Exception {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+}
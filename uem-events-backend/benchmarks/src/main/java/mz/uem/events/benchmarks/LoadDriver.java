@@ -0,0 +1,350 @@
+package mz.uem.events.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de carga em ciclo fechado contra uma instância em execução: cada cliente
+ * envia um pedido, espera pela resposta e envia o seguinte, durante o tempo pedido.
+ *
+ * <pre>
+ * mvn -q compile exec:java@load -Dexec.args="clients=1000 duration=30s scenario=read"
+ * </pre>
+ *
+ * Argumentos (chave=valor): url (http://localhost:8080), clients (100), warmup (10s),
+ * duration (30s), timeout (30s), api (servlet ou reactive, para o cenário lists) e scenario:
+ * <ul>
+ *   <li>read: detalhe de um evento ao acaso e primeira página da listagem (metade cada);</li>
+ *   <li>register: inscrições em eventos ao acaso; respostas 4xx (evento lotado ou
+ *       não próximo) contam como rejeições, não como erros;</li>
+ *   <li>mixed: 90% read, 10% register;</li>
+ *   <li>lists: listagens públicas (todos, categoria, com vagas, próximos) em /api/events
+ *       ou, com api=reactive, em /api/reactive/events;</li>
+ *   <li>realistic: mistura de listagens (primeiras páginas mais visitadas), detalhes,
+ *       filtros (categoria, status, com vagas, próximos, pesquisa) e inscrições
+ *       identificadas em eventos UPCOMING, nas proporções de mix
+ *       (list:40,detail:35,filter:20,register:5). Detalhes e inscrições concentram-se
+ *       nos eventos mais procurados: skew (2) é o expoente da distribuição, 1 = uniforme.</li>
+ * </ul>
+ * Só os pedidos iniciados depois do aquecimento entram nos resultados, no total e por
+ * operação.
+ */
+public final class LoadDriver {
+
+    private static final String[] LIST_PATHS = {
+        "?page=0&size=10", "/category/TECH?page=0&size=10", "/available?page=0&size=10", "/upcoming"
+    };
+    private static final String[] CATEGORIES = {
+        "ACADEMIC", "CULTURAL", "SPORTS", "TECH", "WORKSHOP", "SEMINAR", "CONFERENCE", "GRADUATION", "CAREER", "OTHER"
+    };
+    private static final String[] STATUSES = {"UPCOMING", "ONGOING", "COMPLETED", "CANCELLED"};
+    private static final String[] SEARCH_TERMS = {
+        "futebol", "inteligência artificial", "seminário", "workshop dados", "graduação", "emprego", "cultura"
+    };
+    private static final List<String> OPERATIONS = List.of("list", "detail", "filter", "register");
+
+    private final URI base;
+    private final String scenario;
+    private final String listPrefix;
+    private final Duration timeout;
+    private final HttpClient client;
+    private final List<Long> eventIds;
+    private final List<Long> upcomingIds;
+    private final double[] mix;
+    private final double skew;
+
+    private final Results total = new Results();
+    private final Map<String, Results> byOperation = new ConcurrentHashMap<>();
+    private final AtomicLong attendees = new AtomicLong();
+
+    private volatile long measureFrom;
+    private volatile long stopAt;
+
+    private LoadDriver(URI base, String scenario, String api, Duration timeout, List<Long> eventIds,
+                       List<Long> upcomingIds, double[] mix, double skew) {
+        this.base = base;
+        this.scenario = scenario;
+        this.listPrefix = "reactive".equals(api) ? "/api/reactive/events" : "/api/events";
+        this.timeout = timeout;
+        this.eventIds = eventIds;
+        this.upcomingIds = upcomingIds.isEmpty() ? eventIds : upcomingIds;
+        this.mix = mix;
+        this.skew = skew;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1) {
+                System.err.println("Argumento inválido (esperado chave=valor): " + arg);
+                System.exit(2);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        URI base = URI.create(options.getOrDefault("url", "http://localhost:8080"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "100"));
+        Duration warmup = duration(options.getOrDefault("warmup", "10s"));
+        Duration measure = duration(options.getOrDefault("duration", "30s"));
+        Duration timeout = duration(options.getOrDefault("timeout", "30s"));
+        String scenario = options.getOrDefault("scenario", "read");
+        if (!List.of("read", "register", "mixed", "lists", "realistic").contains(scenario)) {
+            System.err.println("Cenário desconhecido: " + scenario);
+            System.exit(2);
+        }
+        String api = options.getOrDefault("api", "servlet");
+        if (!List.of("servlet", "reactive").contains(api)) {
+            System.err.println("API desconhecida: " + api);
+            System.exit(2);
+        }
+
+        double[] mix = mix(options.getOrDefault("mix", "list:40,detail:35,filter:20,register:5"));
+        double skew = Double.parseDouble(options.getOrDefault("skew", "2"));
+        List<Long> upcomingIds = "realistic".equals(scenario)
+                ? fetchEventIds(base, "/api/events/status/UPCOMING?page=0&size=1000")
+                : List.of();
+
+        LoadDriver driver = new LoadDriver(base, scenario, api, timeout,
+                fetchEventIds(base, "/api/events?page=0&size=1000"), upcomingIds, mix, skew);
+        driver.run(clients, warmup, measure);
+    }
+
+    private void run(int clients, Duration warmup, Duration measure) throws InterruptedException {
+        long now = System.nanoTime();
+        measureFrom = now + warmup.toNanos();
+        stopAt = measureFrom + measure.toNanos();
+        System.out.printf(Locale.ROOT, "%s: %d cliente(s), cenário %s%s, aquecimento %ds, medição %ds, %d evento(s)%n",
+                base, clients, scenario, "lists".equals(scenario) ? " (" + listPrefix + ")" : "",
+                warmup.toSeconds(), measure.toSeconds(), eventIds.size());
+
+        List<CompletableFuture<Void>> running = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            next(done);
+            running.add(done);
+        }
+        CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).join();
+        report(clients, measure);
+    }
+
+    /**
+     * Envia o pedido seguinte do cliente, ou termina-o se o tempo acabou
+     */
+    private void next(CompletableFuture<Void> done) {
+        long startedAt = System.nanoTime();
+        if (startedAt >= stopAt) {
+            done.complete(null);
+            return;
+        }
+        Call call = call();
+        client.sendAsync(call.request(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (startedAt >= measureFrom) {
+                        long micros = (System.nanoTime() - startedAt) / 1_000;
+                        int status = error != null ? 0 : response.statusCode();
+                        total.record(micros, status);
+                        byOperation.computeIfAbsent(call.operation(), operation -> new Results()).record(micros, status);
+                    }
+                    next(done);
+                });
+    }
+
+    /**
+     * Pedido seguinte do cenário, com a operação a que pertence
+     */
+    private Call call() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if ("lists".equals(scenario)) {
+            String path = LIST_PATHS[random.nextInt(LIST_PATHS.length)];
+            return get(path.startsWith("?") ? "list" : "filter", listPrefix + path);
+        }
+        if ("realistic".equals(scenario)) {
+            return realistic(random);
+        }
+        Long id = eventIds.get(random.nextInt(eventIds.size()));
+        boolean register = "register".equals(scenario) || ("mixed".equals(scenario) && random.nextInt(10) == 0);
+        if (register) {
+            return new Call("register", HttpRequest.newBuilder(base.resolve("/api/events/" + id + "/register"))
+                    .timeout(timeout)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build());
+        }
+        return random.nextBoolean() ? get("detail", "/api/events/" + id) : get("list", "/api/events?page=0&size=10");
+    }
+
+    private Call realistic(ThreadLocalRandom random) {
+        double pick = random.nextDouble() * mix[mix.length - 1];
+        // Páginas mais próximas do início são as mais visitadas
+        int page = (int) (5 * Math.pow(random.nextDouble(), 3));
+        if (pick < mix[0]) {
+            return get("list", "/api/events?page=" + page + "&size=10");
+        }
+        if (pick < mix[1]) {
+            return get("detail", "/api/events/" + popular(eventIds, random));
+        }
+        if (pick < mix[2]) {
+            String path = switch (random.nextInt(5)) {
+                case 0 -> "/api/events/category/" + CATEGORIES[random.nextInt(CATEGORIES.length)] + "?page=" + page + "&size=10";
+                case 1 -> "/api/events/status/" + STATUSES[random.nextInt(STATUSES.length)] + "?page=" + page + "&size=10";
+                case 2 -> "/api/events/available?page=" + page + "&size=10";
+                case 3 -> "/api/events/upcoming";
+                default -> "/api/events/search?q="
+                        + URLEncoder.encode(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], StandardCharsets.UTF_8);
+            };
+            return get("filter", path);
+        }
+        String body = "{\"attendee\":\"carga-" + attendees.incrementAndGet() + "@uem.ac.mz\"}";
+        return new Call("register", HttpRequest.newBuilder(base.resolve("/api/events/" + popular(upcomingIds, random) + "/register"))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    /**
+     * Evento da lista com probabilidade decrescente com a posição (skew = 1: uniforme)
+     */
+    private Long popular(List<Long> ids, ThreadLocalRandom random) {
+        return ids.get((int) (ids.size() * Math.pow(random.nextDouble(), skew)));
+    }
+
+    private Call get(String operation, String path) {
+        return new Call(operation, HttpRequest.newBuilder(base.resolve(path)).timeout(timeout).GET().build());
+    }
+
+    private void report(int clients, Duration measure) {
+        System.out.printf(Locale.ROOT, "%noperacao  clientes  pedidos/s     p50      p90      p99    p99.9      max    ok  rejeitados  erros%n");
+        if (byOperation.size() > 1) {
+            for (String operation : OPERATIONS) {
+                Results results = byOperation.get(operation);
+                if (results != null) {
+                    results.print(operation, clients, measure);
+                }
+            }
+        }
+        total.print("total", clients, measure);
+    }
+
+    /**
+     * Limites cumulativos das proporções de list, detail, filter e register
+     */
+    private static double[] mix(String value) {
+        Map<String, Double> weights = new HashMap<>();
+        for (String part : value.split(",")) {
+            String[] entry = part.trim().split(":");
+            if (entry.length != 2 || !OPERATIONS.contains(entry[0])) {
+                throw new IllegalArgumentException("mix inválido (esperado list:40,detail:35,filter:20,register:5): " + value);
+            }
+            weights.put(entry[0], Double.parseDouble(entry[1]));
+        }
+        double[] bounds = new double[OPERATIONS.size()];
+        double sum = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            sum += weights.getOrDefault(OPERATIONS.get(i), 0.0);
+            bounds[i] = sum;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("mix sem operações: " + value);
+        }
+        return bounds;
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.1fms", micros / 1000.0);
+    }
+
+    /**
+     * IDs de eventos existentes (até 1000) para distribuir os pedidos
+     */
+    private static List<Long> fetchEventIds(URI base, String path) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(base.resolve(path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " devolveu " + response.statusCode());
+        }
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode event : new ObjectMapper().readTree(response.body()).path("content")) {
+            ids.add(event.get("id").asLong());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("Não existem eventos na instância " + base);
+        }
+        return ids;
+    }
+
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(text.endsWith("s") ? text.substring(0, text.length() - 1) : text));
+    }
+
+    private record Call(String operation, HttpRequest request) {
+    }
+
+    /**
+     * Latências e contagens de respostas de um conjunto de pedidos
+     */
+    private static final class Results {
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        /**
+         * @param status código HTTP, ou 0 se o pedido falhou sem resposta
+         */
+        void record(long micros, int status) {
+            latencies.record(micros);
+            if (status == 0 || status >= 500) {
+                failed.incrementAndGet();
+            } else if (status >= 400) {
+                rejected.incrementAndGet();
+            } else {
+                succeeded.incrementAndGet();
+            }
+        }
+
+        void print(String operation, int clients, Duration measure) {
+            System.out.printf(Locale.ROOT, "%-8s %9d %10.1f %7s %8s %8s %8s %8s %6d %11d %6d%n",
+                    operation,
+                    clients,
+                    latencies.count() / (double) measure.toSeconds(),
+                    millis(latencies.percentile(50)),
+                    millis(latencies.percentile(90)),
+                    millis(latencies.percentile(99)),
+                    millis(latencies.percentile(99.9)),
+                    millis(latencies.max()),
+                    succeeded.get(), rejected.get(), failed.get());
+        }
+    }
+}
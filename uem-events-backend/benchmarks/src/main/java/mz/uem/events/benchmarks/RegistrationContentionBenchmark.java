@@ -0,0 +1,121 @@
+package mz.uem.events.benchmarks;
+
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.dto.RegistrationResult;
+import mz.uem.events.entity.Event;
+import mz.uem.events.repository.EventRepository;
+import mz.uem.events.service.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Inscrições concorrentes (8 threads por omissão; -t para alterar) num número pequeno
+ * de eventos, nos dois modos de inscrição. Com hotEvents=1 todas as threads disputam
+ * a mesma linha / o mesmo contador.
+ *
+ * Cada inscrição grava uma linha em registrations: register é anónima,
+ * registerAttendee leva participante e chave de idempotência (verificação das duas
+ * restrições de unicidade) e retry repete uma chave já usada, que deve ser um no-op.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RegistrationContentionBenchmark {
+
+    // Capacidade que não se esgota durante a medição
+    private static final int CAPACITY = 1_000_000_000;
+
+    @Param({"database", "memory"})
+    String mode;
+
+    @Param({"1", "16"})
+    int hotEvents;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private Path journalDirectory;
+    private Long[] eventIds;
+    private final AtomicLong attendees = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        journalDirectory = Files.createTempDirectory("registration-journal");
+        context = BenchmarkContext.start(Map.of(
+                "uem.events.registration.mode", mode,
+                "uem.events.registration.journal-directory", journalDirectory.toString()));
+        eventService = context.getBean(EventService.class);
+
+        EventRepository repository = context.getBean(EventRepository.class);
+        Random random = new Random(42);
+        List<Event> events = new ArrayList<>(hotEvents);
+        for (int i = 0; i < hotEvents; i++) {
+            Event event = BenchmarkFixtures.event(i, random);
+            event.setMaxCapacity(CAPACITY);
+            event.setCurrentRegistrations(0);
+            events.add(event);
+        }
+        eventIds = repository.saveAll(events).stream().map(Event::getId).toArray(Long[]::new);
+
+        for (Long eventId : eventIds) {
+            eventService.registerParticipant(eventId, null, retryKey(eventId));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(journalDirectory);
+    }
+
+    @Benchmark
+    public EventDTO register() {
+        Long eventId = eventIds[ThreadLocalRandom.current().nextInt(eventIds.length)];
+        return eventService.registerParticipant(eventId);
+    }
+
+    @Benchmark
+    public RegistrationResult registerAttendee() {
+        Long eventId = eventIds[ThreadLocalRandom.current().nextInt(eventIds.length)];
+        long attendee = attendees.incrementAndGet();
+        return eventService.registerParticipant(eventId, "participante-" + attendee + "@uem.mz", "chave-" + attendee);
+    }
+
+    @Benchmark
+    public RegistrationResult retry() {
+        Long eventId = eventIds[ThreadLocalRandom.current().nextInt(eventIds.length)];
+        return eventService.registerParticipant(eventId, null, retryKey(eventId));
+    }
+
+    private static String retryKey(Long eventId) {
+        return "repetida-" + eventId;
+    }
+}
@@ -0,0 +1,162 @@
+package mz.uem.events.benchmarks;
+
+import mz.uem.events.dto.CursorPage;
+import mz.uem.events.dto.EventCardDTO;
+import mz.uem.events.dto.EventCursor;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.dto.EventVersion;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.repository.EventRepository;
+import mz.uem.events.service.EventReactiveService;
+import mz.uem.events.service.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas do EventService/EventRepository sobre uma base H2 semeada, com a cache
+ * de leitura desativada para medir o acesso à base de dados e a conversão para DTOs
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryQueryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000"})
+    int events;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private EventReactiveService reactiveService;
+    private EventRepository eventRepository;
+    private List<Long> ids;
+    private Pageable firstPage;
+    private Pageable deepPage;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        context = BenchmarkContext.start(Map.of("uem.events.cache.enabled", "false"));
+        ids = BenchmarkContext.seed(context, events, 42);
+        BenchmarkContext.awaitSearchIndex(context);
+        eventService = context.getBean(EventService.class);
+        reactiveService = context.getBean(EventReactiveService.class);
+        eventRepository = context.getBean(EventRepository.class);
+
+        Sort byDate = Sort.by("eventDate").ascending();
+        int lastPage = events / PAGE_SIZE - 1;
+        firstPage = PageRequest.of(0, PAGE_SIZE, byDate);
+        deepPage = PageRequest.of(lastPage, PAGE_SIZE, byDate);
+
+        // Cursor que aponta para a mesma posição da página profunda
+        List<EventCardDTO> beforeDeep = eventService.getAllEvents(PageRequest.of(lastPage - 1, PAGE_SIZE, byDate)).getContent();
+        EventCardDTO last = beforeDeep.get(beforeDeep.size() - 1);
+        deepCursor = new EventCursor(last.getEventDate(), last.getId()).encode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<EventCardDTO> offsetFirstPage() {
+        return eventService.getAllEvents(firstPage);
+    }
+
+    @Benchmark
+    public Page<EventCardDTO> offsetDeepPage() {
+        return eventService.getAllEvents(deepPage);
+    }
+
+    @Benchmark
+    public Page<EventCardDTO> reactiveFirstPage() {
+        return reactiveService.getAllEvents(firstPage).block();
+    }
+
+    @Benchmark
+    public Page<EventCardDTO> reactiveDeepPage() {
+        return reactiveService.getAllEvents(deepPage).block();
+    }
+
+    @Benchmark
+    public CursorPage<EventCardDTO> keysetDeepPage() {
+        return eventService.scrollEvents(deepCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<EventCardDTO> categoryPage() {
+        return eventService.getEventsByCategory(EventCategory.TECH, firstPage);
+    }
+
+    @Benchmark
+    public Page<EventCardDTO> availablePage() {
+        return eventService.getEventsWithAvailableCapacity(firstPage);
+    }
+
+    @Benchmark
+    public EventDTO eventById() {
+        return eventService.getEventById(randomId());
+    }
+
+    @Benchmark
+    public EventVersion pageVersion() {
+        return eventService.getAllEventsVersion(firstPage);
+    }
+
+    @Benchmark
+    public List<EventRepository.EventTagRow> tagsOfPage() {
+        int from = ThreadLocalRandom.current().nextInt(ids.size() - PAGE_SIZE);
+        return eventRepository.findTagsByEventIds(ids.subList(from, from + PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<EventCardDTO> search() {
+        return eventService.searchEvents("seminario pesquisa", firstPage);
+    }
+
+    @Benchmark
+    public List<EventCardDTO> upcomingList() {
+        return eventService.getUpcomingEvents();
+    }
+
+    @Benchmark
+    public void upcomingStream(Blackhole blackhole) {
+        eventService.streamUpcomingEvents(blackhole::consume);
+    }
+
+    @Benchmark
+    public void upcomingReactive(Blackhole blackhole) {
+        reactiveService.getUpcomingEvents().doOnNext(blackhole::consume).blockLast();
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
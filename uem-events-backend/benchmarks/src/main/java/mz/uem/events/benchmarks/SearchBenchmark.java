@@ -0,0 +1,155 @@
+package mz.uem.events.benchmarks;
+
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.repository.EventRepository;
+import mz.uem.events.service.EventChangedEvent;
+import mz.uem.events.service.EventMapper;
+import mz.uem.events.service.EventSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pesquisa no índice invertido em memória (EventSearchIndex), sem base de dados
+ *
+ * O índice é preenchido pelas mesmas notificações que o EventService publica, com
+ * events eventos sintéticos: títulos, organizadores, locais e tags de vocabulários
+ * pequenos e descrições com palavras de frequência decrescente (lei de Zipf).
+ * query: um termo frequente (broad), dois termos (pair), três termos com poucos
+ * resultados em comum (narrow) e um termo raro (rare).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    private static final String[] TITLES = {
+            "Seminário de", "Workshop de", "Conferência sobre", "Palestra sobre", "Colóquio de",
+            "Festival de", "Torneio de", "Feira de", "Hackathon de", "Jornadas de"
+    };
+    private static final String[] SUBJECTS = {
+            "Inteligência Artificial", "Análise de Dados", "Energia Renovável", "Saúde Pública",
+            "Direito Constitucional", "Economia do Desenvolvimento", "Agricultura Sustentável",
+            "Recursos Hídricos", "Cibersegurança", "Marrabenta", "Teatro Universitário", "Futebol",
+            "Basquetebol", "Xadrez", "Fotografia", "Escrita Científica", "Gestão de Projetos",
+            "Alterações Climáticas", "Ensino Superior", "Biologia Marinha", "Química Orgânica",
+            "História de Moçambique", "Linguística Bantu", "Engenharia Civil", "Medicina Tropical"
+    };
+    private static final String[] ORGANIZERS = {
+            "Reitoria", "Faculdade de Engenharia", "Faculdade de Ciências", "Faculdade de Medicina",
+            "Faculdade de Direito", "Faculdade de Economia", "Faculdade de Letras", "Faculdade de Educação",
+            "Centro de Informática", "Associação de Estudantes", "Departamento de Desportos", "Escola de Comunicação e Artes"
+    };
+    private static final String[] LOCATIONS = {
+            "Maputo - Campus Principal", "Maputo - Complexo Pedagógico", "Maputo - Anfiteatro Central",
+            "Beira - Delegação", "Nampula - Delegação", "Inhambane - Escola de Hotelaria", "Online"
+    };
+    private static final String[] TAGS = {
+            "ciência", "tecnologia", "pesquisa", "inovação", "estudantes", "carreira", "cultura",
+            "desporto", "saúde", "engenharia", "direito", "economia", "ambiente", "arte", "dados"
+    };
+    private static final int DESCRIPTION_WORDS = 5000;
+
+    @Param({"1000000"})
+    int events;
+
+    @Param({"broad", "pair", "narrow", "rare"})
+    String query;
+
+    @Param({"20"})
+    int pageSize;
+
+    private EventSearchIndex index;
+    private String text;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        EventRepository repository = (EventRepository) Proxy.newProxyInstance(EventRepository.class.getClassLoader(),
+                new Class<?>[] {EventRepository.class}, (proxy, method, args) -> List.of());
+        TransactionTemplate transactions = new TransactionTemplate() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                return action.doInTransaction(null);
+            }
+        };
+        index = new EventSearchIndex(repository, new EventMapper(repository), transactions);
+        index.buildOnStartup();
+        while (!index.isReady()) {
+            Thread.sleep(10);
+        }
+
+        long startedAt = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime updatedAt = LocalDateTime.now();
+        for (long id = 1; id <= events; id++) {
+            index.onEventChanged(new EventChangedEvent(id, EventChangedEvent.ChangeType.CREATED,
+                    event(id, updatedAt, random)));
+        }
+        text = switch (query) {
+            case "broad" -> "seminario";
+            case "pair" -> "workshop dados";
+            case "narrow" -> "energia renovavel beira";
+            case "rare" -> "palavra4999";
+            default -> throw new IllegalArgumentException("query desconhecida: " + query);
+        };
+        EventSearchIndex.Hits hits = index.search(text, 0, pageSize);
+        System.out.printf("%n%d eventos indexados em %d ms; \"%s\": %d resultado(s)%n", index.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), text, hits.getTotal());
+    }
+
+    /**
+     * Primeira página de resultados, com o total
+     */
+    @Benchmark
+    public EventSearchIndex.Hits firstPage() {
+        return index.search(text, 0, pageSize);
+    }
+
+    private static EventDTO event(long id, LocalDateTime updatedAt, SplittableRandom random) {
+        List<String> tags = new ArrayList<>();
+        for (int count = 1 + random.nextInt(4); count > 0; count--) {
+            tags.add(TAGS[random.nextInt(TAGS.length)]);
+        }
+        StringBuilder description = new StringBuilder();
+        for (int words = 15 + random.nextInt(25); words > 0; words--) {
+            description.append("palavra").append(zipf(random)).append(' ');
+        }
+        return EventDTO.builder()
+                .id(id)
+                .title(TITLES[random.nextInt(TITLES.length)] + " " + SUBJECTS[random.nextInt(SUBJECTS.length)])
+                .description(description.toString())
+                .organizer(ORGANIZERS[random.nextInt(ORGANIZERS.length)])
+                .location(LOCATIONS[random.nextInt(LOCATIONS.length)])
+                .tags(tags)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    /**
+     * Posição de uma palavra numa distribuição de Zipf aproximada (0 = a mais frequente)
+     */
+    private static int zipf(SplittableRandom random) {
+        double u = random.nextDouble();
+        return (int) Math.min(DESCRIPTION_WORDS - 1, Math.floor(Math.pow(DESCRIPTION_WORDS + 1, u)) - 1);
+    }
+}
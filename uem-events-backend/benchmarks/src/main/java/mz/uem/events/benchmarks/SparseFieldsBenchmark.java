@@ -0,0 +1,86 @@
+package mz.uem.events.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mz.uem.events.dto.EventFieldSet;
+import mz.uem.events.repository.EventProjectionRepository.Listing;
+import mz.uem.events.service.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Página de listagem completa contra fields=/excerpt=: consulta, conversão e
+ * serialização JSON, sem cache de leitura. O tamanho de cada resposta é mostrado
+ * no arranque de cada combinação de parâmetros.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SparseFieldsBenchmark {
+
+    // Campos de um card de listagem típico
+    private static final String LISTING_FIELDS = "title,eventDate,location,categoryDisplayName,availableCapacity,isFull";
+
+    @Param({"10000"})
+    int events;
+
+    @Param({"20"})
+    int pageSize;
+
+    @Param({"full", "listing", "excerpt"})
+    String selection;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private ObjectMapper objectMapper;
+    private EventFieldSet fields;
+    private Pageable page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start(Map.of("uem.events.cache.enabled", "false"));
+        BenchmarkContext.seed(context, events, 42);
+        eventService = context.getBean(EventService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        page = PageRequest.of(events / pageSize / 2, pageSize, Sort.by("eventDate").ascending());
+        fields = switch (selection) {
+            case "listing" -> EventFieldSet.parse(LISTING_FIELDS, null);
+            case "excerpt" -> EventFieldSet.parse(LISTING_FIELDS + ",description", 140);
+            default -> null;
+        };
+        System.out.printf("%n# %s: %d bytes por página de %d eventos%n", selection, listPage().length, pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] listPage() throws Exception {
+        Object body = fields == null
+                ? eventService.getAllEvents(page)
+                : eventService.getSparseCards(Listing.all(), page, fields);
+        return objectMapper.writeValueAsBytes(body);
+    }
+}
@@ -0,0 +1,179 @@
+package mz.uem.events.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo de arranque: inicia a aplicação várias vezes e mede, desde o início do processo,
+ * o tempo até ao primeiro pedido bem-sucedido a /api/events.
+ *
+ * <pre>
+ * mvn -Pfast-startup package && ./fast-startup.sh --spring.profiles.active=prod,fast-startup
+ * mvn -q compile exec:java@startup -Dexec.args="runs=5 profiles=prod"
+ * </pre>
+ *
+ * Modos (mode=jar, fast ou both):
+ * <ul>
+ *   <li>jar: java -jar com o jar executável e os perfis indicados (arranque normal);</li>
+ *   <li>fast: java @target/fast-startup/java.args (AOT + CDS) com os perfis e fast-startup.</li>
+ * </ul>
+ * Argumentos (chave=valor): dir (.., diretório do backend), runs (3), profiles (prod),
+ * port (8080), timeout (180s). Argumentos começados por -- seguem para a aplicação
+ * (por exemplo --spring.datasource.url=...). O modo fast usa ddl-auto none: a base de
+ * dados tem de ter o esquema criado.
+ */
+public final class StartupDriver {
+
+    private static final String JAR = "target/uem-events-backend-1.0.0-exec.jar";
+    private static final String ARG_FILE = "target/fast-startup/java.args";
+
+    private final File directory;
+    private final String profiles;
+    private final int port;
+    private final Duration timeout;
+    private final List<String> applicationArgs;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private StartupDriver(File directory, String profiles, int port, Duration timeout, List<String> applicationArgs) {
+        this.directory = directory;
+        this.profiles = profiles;
+        this.port = port;
+        this.timeout = timeout;
+        this.applicationArgs = applicationArgs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--")) {
+                applicationArgs.add(arg);
+            } else if (separator < 1) {
+                System.err.println("Argumento inválido (esperado chave=valor ou --propriedade=valor): " + arg);
+                System.exit(2);
+            } else {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        String mode = options.getOrDefault("mode", "both");
+        if (!List.of("jar", "fast", "both").contains(mode)) {
+            System.err.println("Modo desconhecido: " + mode);
+            System.exit(2);
+        }
+        int runs = Integer.parseInt(options.getOrDefault("runs", "3"));
+        StartupDriver driver = new StartupDriver(
+                new File(options.getOrDefault("dir", "..")).getCanonicalFile(),
+                options.getOrDefault("profiles", "prod"),
+                Integer.parseInt(options.getOrDefault("port", "8080")),
+                LoadDriver.duration(options.getOrDefault("timeout", "180s")),
+                applicationArgs);
+
+        System.out.printf(Locale.ROOT, "%s: %d arranque(s) por modo, perfis %s%n", driver.directory, runs, driver.profiles);
+        List<String[]> rows = new ArrayList<>();
+        if (!"fast".equals(mode)) {
+            rows.add(driver.measure("jar", runs));
+        }
+        if (!"jar".equals(mode)) {
+            rows.add(driver.measure("fast", runs));
+        }
+        System.out.printf(Locale.ROOT, "%nmodo       min   mediana       max%n");
+        for (String[] row : rows) {
+            System.out.printf(Locale.ROOT, "%-5s %8s %9s %9s%n", (Object[]) row);
+        }
+    }
+
+    private String[] measure(String mode, int runs) throws IOException, InterruptedException {
+        List<Long> times = new ArrayList<>(runs);
+        for (int run = 1; run <= runs; run++) {
+            long millis = start(mode, run);
+            System.out.printf(Locale.ROOT, "  %s #%d: %s%n", mode, run, seconds(millis));
+            times.add(millis);
+        }
+        Collections.sort(times);
+        return new String[] {
+            mode, seconds(times.get(0)), seconds(times.get(times.size() / 2)), seconds(times.get(times.size() - 1))
+        };
+    }
+
+    /**
+     * Inicia a aplicação, espera pelo primeiro 2xx e termina-a
+     *
+     * @return milissegundos desde o início do processo até à primeira resposta 2xx
+     */
+    private long start(String mode, int run) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("java"));
+        if ("fast".equals(mode)) {
+            if (!new File(directory, ARG_FILE).isFile()) {
+                throw new IllegalStateException("Falta " + ARG_FILE + ": corra mvn -Pfast-startup package e ./fast-startup.sh");
+            }
+            command.add("@" + ARG_FILE);
+            command.add("--spring.profiles.active=" + profiles + ",fast-startup");
+        } else {
+            command.addAll(Arrays.asList("-jar", JAR));
+            command.add("--spring.profiles.active=" + profiles);
+        }
+        command.add("--server.port=" + port);
+        command.addAll(applicationArgs);
+
+        Path log = Files.createTempFile("startup-" + mode + "-" + run + "-", ".log");
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(directory)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            URI uri = URI.create("http://localhost:" + port + "/api/events?page=0&size=1");
+            long deadline = startedAt + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("A aplicação terminou durante o arranque, ver " + log);
+                }
+                if (succeeds(uri)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException("Sem resposta em " + timeout.toSeconds() + "s, ver " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private boolean succeeds(URI uri) throws InterruptedException {
+        try {
+            HttpResponse<Void> response = client.send(
+                    HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            // Ainda sem porta aberta ou ligação recusada
+            return false;
+        }
+    }
+
+    private static String seconds(long millis) {
+        return String.format(Locale.ROOT, "%.2fs", millis / 1000.0);
+    }
+}
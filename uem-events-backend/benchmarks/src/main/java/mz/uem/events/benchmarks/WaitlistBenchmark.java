@@ -0,0 +1,89 @@
+package mz.uem.events.benchmarks;
+
+import mz.uem.events.dto.RegistrationResult;
+import mz.uem.events.entity.Event;
+import mz.uem.events.repository.EventRepository;
+import mz.uem.events.service.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rajada de pedidos (8 threads por omissão) num evento lotado: cada pedido identificado
+ * entra na fila de espera. enqueue mede pedidos novos (a fila cresce durante a medição,
+ * e com ela o cálculo da posição); retry repete um pedido que já está na fila.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class WaitlistBenchmark {
+
+    private static final String RETRY_KEY = "repetida";
+
+    @Param({"database", "memory"})
+    String mode;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private Path journalDirectory;
+    private Long eventId;
+    private final AtomicLong requests = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        journalDirectory = Files.createTempDirectory("registration-journal");
+        context = BenchmarkContext.start(Map.of(
+                "uem.events.registration.mode", mode,
+                "uem.events.registration.journal-directory", journalDirectory.toString()));
+        eventService = context.getBean(EventService.class);
+
+        Event event = BenchmarkFixtures.event(0, new Random(42));
+        event.setMaxCapacity(1);
+        event.setCurrentRegistrations(0);
+        eventId = context.getBean(EventRepository.class).save(event).getId();
+
+        eventService.registerParticipant(eventId);
+        eventService.registerParticipant(eventId, null, RETRY_KEY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(journalDirectory);
+    }
+
+    @Benchmark
+    public RegistrationResult enqueue() {
+        return eventService.registerParticipant(eventId, null, "espera-" + requests.incrementAndGet());
+    }
+
+    @Benchmark
+    public RegistrationResult retry() {
+        return eventService.registerParticipant(eventId, null, RETRY_KEY);
+    }
+}
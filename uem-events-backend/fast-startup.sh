@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Prepara o arranque rápido a partir do jar gerado por `mvn -Pfast-startup package`:
+#   1. extrai o jar executável para target/fast-startup (application.jar + lib/), porque o
+#      CDS só arquiva classes de jars simples, não de jars dentro do jar executável;
+#   2. corre a aplicação uma vez até o contexto estar criado (spring.context.exit=onRefresh)
+#      e grava as classes carregadas em application.jsa;
+#   3. escreve java.args com o classpath, o arquivo CDS e o modo AOT.
+#
+# Uso (os argumentos vão para a aplicação no treino; a base de dados tem de estar acessível):
+#   ./fast-startup.sh --spring.profiles.active=prod,fast-startup
+#   java @target/fast-startup/java.args --spring.profiles.active=prod,fast-startup
+#
+# O arquivo só vale para a mesma JVM e o mesmo classpath: repetir após cada build.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+JAR=$(ls target/uem-events-backend-*-exec.jar)
+OUT=target/fast-startup
+MAIN_CLASS=mz.uem.events.UemEventsApplication
+
+if ! unzip -l "$JAR" | grep '__ApplicationContextInitializer' > /dev/null; then
+    echo "O jar não tem o contexto AOT: compile com mvn -Pfast-startup package" >&2
+    exit 1
+fi
+
+rm -rf "$OUT"
+mkdir -p "$OUT/exploded" "$OUT/lib"
+unzip -q "$JAR" -d "$OUT/exploded"
+mv "$OUT"/exploded/BOOT-INF/lib/*.jar "$OUT/lib/"
+jar --create --file "$OUT/application.jar" -C "$OUT/exploded/BOOT-INF/classes" .
+rm -rf "$OUT/exploded"
+
+# Classpath explícito e ordenado: o CDS exige o mesmo classpath no treino e na execução
+CLASSPATH="$OUT/application.jar"
+for lib in $(ls "$OUT"/lib/*.jar | sort); do
+    CLASSPATH="$CLASSPATH:$lib"
+done
+
+echo "A gerar o arquivo CDS ($OUT/application.jsa)..."
+java -XX:ArchiveClassesAtExit="$OUT/application.jsa" \
+     -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+     -cp "$CLASSPATH" "$MAIN_CLASS" "$@" > "$OUT/training.log" 2>&1 || {
+    echo "Falha no treino, ver $OUT/training.log" >&2
+    exit 1
+}
+
+cat > "$OUT/java.args" <<ARGS
+-XX:SharedArchiveFile=$OUT/application.jsa
+-Dspring.aot.enabled=true
+-cp $CLASSPATH
+$MAIN_CLASS
+ARGS
+
+echo "Pronto: java @$OUT/java.args $*"
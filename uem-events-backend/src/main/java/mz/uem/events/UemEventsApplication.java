@@ -2,6 +2,9 @@ package mz.uem.events;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 /**
@@ -13,7 +16,9 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * @author UEM Development Team
  * @version 1.0.0
  */
-@SpringBootApplication
+// R2DBC configurado à parte (ReactiveDatabaseConfig), sem desativar o DataSource JDBC nem o gestor de transações JPA
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
+@ConfigurationPropertiesScan
 @EnableJpaAuditing
 public class UemEventsApplication {
 
@@ -0,0 +1,72 @@
+package mz.uem.events.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import mz.uem.events.exception.TooManyRequestsException;
+import mz.uem.events.service.RegistrationAdmission;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controlo de admissão antes de POST /api/events/{id}/register
+ * 
+ * Interceptor e não filtro: corre depois do CORS do Spring MVC, pelo que o 429 leva os
+ * cabeçalhos CORS, e sai pelo GlobalExceptionHandler como os restantes erros. Um pedido
+ * recusado não chega ao EventService nem à base de dados.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AdmissionConfig implements WebMvcConfigurer {
+    
+    private final RegistrationAdmission registrationAdmission;
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionInterceptor(registrationAdmission))
+                .addPathPatterns("/api/events/*/register");
+    }
+    
+    @RequiredArgsConstructor
+    static class AdmissionInterceptor implements HandlerInterceptor {
+        
+        private final RegistrationAdmission registrationAdmission;
+        
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            if (!"POST".equals(request.getMethod())) {
+                return true;
+            }
+            Long eventId = eventId(request);
+            if (eventId == null) {
+                // ID inválido: segue para o controller, que o rejeita sem tocar na base de dados
+                return true;
+            }
+            long wait = registrationAdmission.tryAdmit(eventId);
+            if (wait > 0) {
+                long retryAfter = Math.max(1, (wait + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+                throw new TooManyRequestsException(
+                        "Demasiados pedidos de inscrição, tente novamente dentro de " + retryAfter + "s", retryAfter);
+            }
+            return true;
+        }
+        
+        private static Long eventId(HttpServletRequest request) {
+            Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            if (!(variables instanceof Map<?, ?> map) || !(map.get("id") instanceof String id)) {
+                return null;
+            }
+            try {
+                return Long.valueOf(id);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
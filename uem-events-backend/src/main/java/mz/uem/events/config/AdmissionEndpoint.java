@@ -0,0 +1,60 @@
+package mz.uem.events.config;
+
+import lombok.RequiredArgsConstructor;
+import mz.uem.events.service.RegistrationAdmission;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limites de admissão em execução (/actuator/admission)
+ * 
+ * GET devolve os limites; POST com {"globalRate": 500, "eventBurst": 50, ...} altera os
+ * indicados; POST /actuator/admission/{eventId} com {"rate": .., "burst": ..} define limites
+ * próprios de um evento e DELETE remove-os. As alterações não sobrevivem a um reinício.
+ * 
+ * Sem autenticação, pelo que não está em management.endpoints.web.exposure.include por
+ * omissão; expõe-se numa porta de gestão interna (management.server.port).
+ */
+@Component
+@Endpoint(id = "admission")
+@RequiredArgsConstructor
+public class AdmissionEndpoint {
+    
+    private final RegistrationAdmission registrationAdmission;
+    
+    @ReadOperation
+    public RegistrationAdmission.Snapshot limits() {
+        return registrationAdmission.snapshot();
+    }
+    
+    @WriteOperation
+    public RegistrationAdmission.Limits update(@Nullable Boolean enabled,
+                                               @Nullable Double globalRate, @Nullable Integer globalBurst,
+                                               @Nullable Double eventRate, @Nullable Integer eventBurst) {
+        try {
+            return registrationAdmission.update(enabled, globalRate, globalBurst, eventRate, eventBurst);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+    
+    @WriteOperation
+    public RegistrationAdmission.Limits setEventLimit(@Selector Long eventId, double rate, int burst) {
+        try {
+            return registrationAdmission.setEventLimit(eventId, rate, burst);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+    
+    @DeleteOperation
+    public RegistrationAdmission.Limits removeEventLimit(@Selector Long eventId) {
+        return registrationAdmission.removeEventLimit(eventId);
+    }
+}
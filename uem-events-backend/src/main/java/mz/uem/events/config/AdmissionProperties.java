@@ -0,0 +1,41 @@
+package mz.uem.events.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Controlo de admissão em POST /api/events/{id}/register (uem.events.admission.*)
+ * 
+ * Valores iniciais; podem ser alterados em execução pelo endpoint /actuator/admission.
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.admission")
+public class AdmissionProperties {
+    
+    private boolean enabled = true;
+    
+    /**
+     * Pedidos de inscrição por segundo admitidos no total
+     */
+    private double globalRate = 1000;
+    
+    /**
+     * Pedidos admitidos de uma vez acima do ritmo global
+     */
+    private int globalBurst = 2000;
+    
+    /**
+     * Pedidos de inscrição por segundo admitidos em cada evento
+     */
+    private double eventRate = 200;
+    
+    /**
+     * Pedidos admitidos de uma vez acima do ritmo de cada evento
+     */
+    private int eventBurst = 400;
+    
+    /**
+     * Eventos com contador de admissão em memória (os menos usados são descartados)
+     */
+    private int maxTrackedEvents = 10_000;
+}
@@ -0,0 +1,112 @@
+package mz.uem.events.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Respostas em CBOR (application/cbor) e Smile (application/x-jackson-smile), escolhidas
+ * pelo cabeçalho Accept; sem Accept, ou com application/json, a resposta continua JSON.
+ * 
+ * Os conversores usam o builder configurado pelo Spring Boot (módulos, formato das
+ * datas, inclusão de nulls), pelo que os campos e os valores são os mesmos do JSON.
+ * 
+ * Como a mesma URL tem várias representações, os GET da API levam Vary: Accept, e os
+ * GET condicionais usam representation() para que cada formato tenha o seu ETag.
+ */
+@Configuration
+public class BinaryContentConfig implements WebMvcConfigurer {
+    
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    
+    // Por ordem de preferência quando o Accept admite mais do que um (ex.: */*)
+    private static final List<MediaType> REPRESENTATIONS = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, MediaType.valueOf(APPLICATION_SMILE));
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if ("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())) {
+                    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                }
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+    
+    /**
+     * Formato da resposta (JSON, CBOR ou Smile) para o cabeçalho Accept: o de maior
+     * qualidade, com os tipos concretos antes dos curinga; JSON sem Accept. Null se
+     * nenhum for aceite (o Spring responde 406).
+     */
+    public static MediaType representation(HttpHeaders headers) {
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(headers.getAccept());
+        } catch (InvalidMediaTypeException ex) {
+            return null;
+        }
+        if (accepted.isEmpty()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+                .thenComparing(MediaType::isWildcardType)
+                .thenComparing(MediaType::isWildcardSubtype));
+        for (MediaType range : accepted) {
+            if (range.getQualityValue() == 0) {
+                break;
+            }
+            for (MediaType candidate : REPRESENTATIONS) {
+                if (range.includes(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+    
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(cborMapper(builder));
+    }
+    
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper(builder));
+    }
+    
+    public static ObjectMapper cborMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new CBORFactory()).build();
+    }
+    
+    /**
+     * Smile com referências a valores repetidos: status, categorias e nomes de exibição
+     * numa página são escritos por extenso apenas uma vez
+     */
+    public static ObjectMapper smileMapper(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return builder.factory(factory).build();
+    }
+}
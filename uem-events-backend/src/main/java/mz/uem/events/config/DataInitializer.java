@@ -5,24 +5,32 @@ import lombok.extern.slf4j.Slf4j;
 import mz.uem.events.entity.Event;
 import mz.uem.events.entity.EventCategory;
 import mz.uem.events.entity.EventStatus;
+import mz.uem.events.entity.Registration;
 import mz.uem.events.repository.EventRepository;
+import mz.uem.events.repository.RegistrationRepository;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 /**
  * Inicializa dados de exemplo no banco de dados
+ * 
+ * Desligado com uem.events.sample-data.enabled=false (perfil fast-startup).
  */
 @Configuration
+@ConditionalOnProperty(prefix = "uem.events.sample-data", name = "enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer {
     
     private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
     
     @Bean
     public CommandLineRunner initData() {
@@ -145,10 +153,28 @@ public class DataInitializer {
                 );
                 
                 eventRepository.saveAll(sampleEvents);
+                registrationRepository.saveAll(anonymousRegistrations(sampleEvents));
                 log.info("✅ {} eventos de exemplo criados com sucesso!", sampleEvents.size());
             } else {
                 log.info("Base de dados já contém eventos. Pulando inicialização.");
             }
         };
     }
+    
+    /**
+     * Inscrições anónimas que correspondem ao currentRegistrations de cada evento de exemplo
+     */
+    private static List<Registration> anonymousRegistrations(List<Event> events) {
+        List<Registration> registrations = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Event event : events) {
+            for (int i = 0; i < event.getCurrentRegistrations(); i++) {
+                registrations.add(Registration.builder()
+                        .eventId(event.getId())
+                        .createdAt(now)
+                        .build());
+            }
+        }
+        return registrations;
+    }
 }
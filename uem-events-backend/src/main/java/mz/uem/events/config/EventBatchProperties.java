@@ -0,0 +1,17 @@
+package mz.uem.events.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuração da leitura de eventos em lote (uem.events.batch.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.batch")
+public class EventBatchProperties {
+    
+    /**
+     * Número máximo de IDs por pedido a /api/events/batch
+     */
+    private int maxIds = 100;
+}
@@ -0,0 +1,32 @@
+package mz.uem.events.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuração da cache de leitura de eventos (uem.events.cache.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.cache")
+public class EventCacheProperties {
+    
+    private boolean enabled = true;
+    
+    /**
+     * Número máximo de eventos (detalhe) em cache
+     */
+    private long maxEvents = 10_000;
+    
+    /**
+     * Número máximo de páginas de listagem em cache
+     */
+    private long maxPages = 2_000;
+    
+    /**
+     * Tempo máximo de vida de uma entrada; limita quanto tempo uma entrada
+     * pode ficar desatualizada se uma invalidação se cruzar com uma leitura
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
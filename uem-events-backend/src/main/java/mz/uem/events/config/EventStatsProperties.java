@@ -0,0 +1,19 @@
+package mz.uem.events.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuração das estatísticas de eventos (uem.events.stats.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.stats")
+public class EventStatsProperties {
+    
+    /**
+     * Intervalo entre reconciliações dos agregados com a base de dados
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,28 @@
+package mz.uem.events.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuração das transições automáticas de status (uem.events.status.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.status")
+public class EventStatusProperties {
+    
+    private boolean enabled = true;
+    
+    /**
+     * Duração assumida de cada evento: passa a ONGOING em eventDate e a COMPLETED
+     * em eventDate + defaultDuration
+     */
+    private Duration defaultDuration = Duration.ofHours(2);
+    
+    /**
+     * Janela de transições mantida em memória; os eventos mais distantes são
+     * carregados quando a janela avança
+     */
+    private Duration horizon = Duration.ofHours(24);
+}
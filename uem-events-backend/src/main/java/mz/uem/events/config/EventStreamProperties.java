@@ -0,0 +1,41 @@
+package mz.uem.events.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuração do feed SSE de alterações de eventos (uem.events.stream.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.stream")
+public class EventStreamProperties {
+    
+    /**
+     * Intervalo de agregação: as alterações de um evento dentro deste intervalo
+     * seguem como uma só atualização, com o estado mais recente
+     */
+    private Duration coalesceInterval = Duration.ofMillis(250);
+    
+    /**
+     * Intervalo entre comentários de keep-alive (deteta ligações fechadas e mantém proxies abertos)
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+    
+    /**
+     * Duração máxima de uma ligação; o EventSource do browser volta a ligar-se automaticamente
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+    
+    /**
+     * Número máximo de subscritores em simultâneo
+     */
+    private int maxSubscribers = 50_000;
+    
+    /**
+     * Prazo de escrita: um subscritor cuja ligação não aceita dados durante este tempo
+     * (cliente parado ou rede saturada) é desligado
+     */
+    private Duration writeTimeout = Duration.ofSeconds(10);
+}
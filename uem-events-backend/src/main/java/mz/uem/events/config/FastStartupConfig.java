@@ -0,0 +1,45 @@
+package mz.uem.events.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Perfil fast-startup: o Springdoc (OpenAPI e Swagger UI) só é criado no primeiro pedido
+ * a /api-docs ou /swagger-ui.html, e não em cada arranque.
+ * 
+ * Só os beans do Springdoc passam a lazy; o resto do contexto (agendadores, caches,
+ * ligações) continua a arrancar com a aplicação. Os controllers do Springdoc ficam
+ * registados pelo nome e são criados quando o primeiro pedido os resolve.
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+    
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+    
+    @Bean
+    static BeanFactoryPostProcessor lazySpringdoc() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isSpringdoc(beanFactory, definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+    
+    private static boolean isSpringdoc(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String className = definition.getBeanClassName();
+        if (className == null && definition.getFactoryBeanName() != null
+                && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+            // Beans declarados por @Bean: conta a classe de configuração que os declara
+            className = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+        }
+        return className != null && className.startsWith(SPRINGDOC_PACKAGE);
+    }
+}
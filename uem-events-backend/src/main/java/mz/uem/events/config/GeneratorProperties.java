@@ -0,0 +1,104 @@
+package mz.uem.events.config;
+
+import lombok.Data;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Gerador de eventos sintéticos (uem.events.generator.*), ativado pelo perfil generate
+ * ou por --uem.events.generator.enabled=true
+ *
+ * Os pesos são relativos (não precisam de somar 100); peso 0 exclui a categoria ou o status.
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.generator")
+public class GeneratorProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Total de eventos pretendido; só são gerados os que faltam na tabela
+     */
+    private long events = 100_000;
+
+    /**
+     * Eventos gravados por transação (inserts em lote JDBC)
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Semente: a mesma semente e configuração geram os mesmos eventos
+     */
+    private long seed = 42;
+
+    /**
+     * Termina a aplicação no fim da geração, em vez de continuar a servir pedidos
+     */
+    private boolean exitWhenDone = false;
+
+    private Map<EventCategory, Double> categoryWeights = defaultCategoryWeights();
+
+    private Map<EventStatus, Double> statusWeights = defaultStatusWeights();
+
+    /**
+     * Datas de eventos passados (COMPLETED, CANCELLED) até este intervalo antes de agora
+     */
+    private Duration history = Duration.ofDays(730);
+
+    /**
+     * Datas de eventos futuros (UPCOMING, CANCELLED) até este intervalo depois de agora
+     */
+    private Duration horizon = Duration.ofDays(180);
+
+    /**
+     * Capacidades distribuídas em escala logarítmica: muitas salas pequenas, poucos auditórios
+     */
+    private int minCapacity = 20;
+
+    private int maxCapacity = 2000;
+
+    private int minTags = 1;
+
+    private int maxTags = 5;
+
+    /**
+     * Fração de eventos UPCOMING já lotados
+     */
+    private double fullUpcomingRatio = 0.1;
+
+    /**
+     * Grava em registrations uma inscrição anónima por cada vaga ocupada (currentRegistrations).
+     * Desligado, a geração é cerca de 15 vezes mais rápida, mas SUM(current_registrations)
+     * deixa de coincidir com COUNT(*) de registrations
+     */
+    private boolean registrationRows = false;
+
+    private static Map<EventCategory, Double> defaultCategoryWeights() {
+        Map<EventCategory, Double> weights = new EnumMap<>(EventCategory.class);
+        weights.put(EventCategory.ACADEMIC, 20.0);
+        weights.put(EventCategory.SEMINAR, 15.0);
+        weights.put(EventCategory.WORKSHOP, 12.0);
+        weights.put(EventCategory.TECH, 10.0);
+        weights.put(EventCategory.CULTURAL, 10.0);
+        weights.put(EventCategory.SPORTS, 9.0);
+        weights.put(EventCategory.CONFERENCE, 8.0);
+        weights.put(EventCategory.CAREER, 7.0);
+        weights.put(EventCategory.GRADUATION, 2.0);
+        weights.put(EventCategory.OTHER, 7.0);
+        return weights;
+    }
+
+    private static Map<EventStatus, Double> defaultStatusWeights() {
+        Map<EventStatus, Double> weights = new EnumMap<>(EventStatus.class);
+        weights.put(EventStatus.UPCOMING, 35.0);
+        weights.put(EventStatus.ONGOING, 1.0);
+        weights.put(EventStatus.COMPLETED, 58.0);
+        weights.put(EventStatus.CANCELLED, 6.0);
+        return weights;
+    }
+}
@@ -0,0 +1,93 @@
+package mz.uem.events.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Número de instruções SQL por pedido HTTP (events.http.queries), por método e rota.
+ * 
+ * O Hibernate passa cada instrução pelo StatementInspector, que conta as da thread
+ * do pedido; o filtro abre a contagem no início e regista-a no fim. Instruções
+ * executadas noutras threads (respostas em streaming, tarefas em segundo plano)
+ * não entram na contagem.
+ */
+@Configuration
+public class QueryMetricsConfig {
+    
+    private static final double[] QUERY_BUCKETS = {1, 2, 3, 5, 10, 20, 50, 100};
+    
+    @Bean
+    public QueryCounter queryCounter() {
+        return new QueryCounter();
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer(QueryCounter queryCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+    }
+    
+    @Bean
+    public OncePerRequestFilter queryCountFilter(QueryCounter queryCounter, MeterRegistry meterRegistry) {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                queryCounter.start();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    int queries = queryCounter.stop();
+                    Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    DistributionSummary.builder("events.http.queries")
+                            .description("Instruções SQL executadas por pedido")
+                            .baseUnit("statements")
+                            .tag("method", request.getMethod())
+                            .tag("uri", route != null ? route.toString() : "UNKNOWN")
+                            .serviceLevelObjectives(QUERY_BUCKETS)
+                            .register(meterRegistry)
+                            .record(queries);
+                }
+            }
+        };
+    }
+    
+    /**
+     * Conta as instruções SQL da thread atual entre start() e stop()
+     */
+    public static class QueryCounter implements StatementInspector {
+        
+        private final ThreadLocal<int[]> count = new ThreadLocal<>();
+        
+        @Override
+        public String inspect(String sql) {
+            int[] current = count.get();
+            if (current != null) {
+                current[0]++;
+            }
+            return sql;
+        }
+        
+        void start() {
+            count.set(new int[1]);
+        }
+        
+        int stop() {
+            int[] current = count.get();
+            count.remove();
+            return current != null ? current[0] : 0;
+        }
+    }
+}
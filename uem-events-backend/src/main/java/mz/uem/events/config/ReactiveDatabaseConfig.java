@@ -0,0 +1,53 @@
+package mz.uem.events.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+/**
+ * Pool R2DBC da API reativa.
+ * 
+ * O pool não é registado como bean ConnectionFactory: com um ConnectionFactory no
+ * contexto, o Spring Boot deixa de configurar o DataSource JDBC (e com ele o JPA).
+ * Pela mesma razão a autoconfiguração R2DBC do Spring Boot está excluída.
+ */
+@Configuration
+@Slf4j
+public class ReactiveDatabaseConfig implements DisposableBean {
+    
+    private final ConnectionPool pool;
+    
+    public ReactiveDatabaseConfig(ReactiveDatabaseProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (StringUtils.hasText(properties.getUsername())) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-events")
+                .initialSize(properties.getInitialSize())
+                .maxSize(properties.getMaxSize())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .build());
+        log.info("Pool R2DBC da API reativa: {} (máx. {} ligações)", properties.getUrl(), properties.getMaxSize());
+    }
+    
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(pool);
+    }
+    
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+}
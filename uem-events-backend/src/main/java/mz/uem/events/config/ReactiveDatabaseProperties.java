@@ -0,0 +1,38 @@
+package mz.uem.events.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Ligação R2DBC da API reativa (uem.events.reactive.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.reactive")
+public class ReactiveDatabaseProperties {
+    
+    /**
+     * URL R2DBC da mesma base de dados da ligação JDBC (ex.: r2dbc:h2:mem:///uemevents)
+     */
+    private String url;
+    
+    private String username;
+    
+    private String password;
+    
+    /**
+     * Ligações abertas no arranque
+     */
+    private int initialSize = 2;
+    
+    /**
+     * Máximo de ligações simultâneas do pool
+     */
+    private int maxSize = 20;
+    
+    /**
+     * Tempo de inatividade após o qual uma ligação é fechada
+     */
+    private Duration maxIdleTime = Duration.ofMinutes(30);
+}
@@ -0,0 +1,45 @@
+package mz.uem.events.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração do motor de inscrições (uem.events.registration.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.registration")
+public class RegistrationProperties {
+    
+    public enum Mode {
+        /** UPDATE atómico por inscrição */
+        DATABASE,
+        /** Contadores em memória com jornal local e escrita diferida em lote */
+        MEMORY
+    }
+    
+    private Mode mode = Mode.DATABASE;
+    
+    /**
+     * Diretório dos segmentos do jornal de inscrições (modo MEMORY)
+     */
+    private Path journalDirectory = Path.of("data", "registration-journal");
+    
+    /**
+     * Intervalo entre escritas em lote para a base de dados (modo MEMORY)
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+    
+    /**
+     * Força fsync em cada entrada do jornal; sem ele, uma queda do sistema
+     * operativo (não só do processo) pode perder as últimas inscrições
+     */
+    private boolean syncOnWrite = false;
+    
+    /**
+     * Identificador desta instância no checkpoint do jornal
+     */
+    private String nodeId = "default";
+}
@@ -0,0 +1,95 @@
+package mz.uem.events.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.entity.Event;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Cache de segundo nível do Hibernate: JCache sobre Caffeine, com as regiões criadas aqui
+ * a partir de uem.events.second-level-cache.* (tamanho máximo e expiração por região).
+ *
+ * Um nome de região que não exista faz falhar o arranque, em vez de o Hibernate criar uma
+ * região sem limites. A região de timestamps regista a última escrita em cada tabela e
+ * invalida os resultados de consultas mais antigos; não tem limite nem expiração, para
+ * nunca perder uma escrita recente.
+ *
+ * O tamanho de cada região vai para events.l2cache.size; acertos, falhas e inserções por
+ * região para as métricas hibernate.second.level.cache.* e hibernate.cache.query.* e para
+ * /actuator/l2cache.
+ */
+@Configuration
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "uem.events.second-level-cache", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties, MeterRegistry meterRegistry) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // URI próprio deste contexto: com o URI por omissão, dois contextos na mesma JVM (testes)
+        // partilhariam as regiões e o fecho de um fecharia as caches do outro
+        URI uri = URI.create(provider.getDefaultURI() + "/" + UUID.randomUUID());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+
+        Map<String, CaffeineConfiguration<Object, Object>> regions = new LinkedHashMap<>();
+        regions.put(Event.CACHE_REGION, region(properties.getEvents()));
+        regions.put(Event.TAGS_CACHE_REGION, region(properties.getTags()));
+        regions.put(Event.QUERY_CACHE_REGION, region(properties.getQueries()));
+        regions.put(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(properties.getQueries()));
+        regions.put(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+
+        regions.forEach((name, configuration) -> {
+            com.github.benmanes.caffeine.cache.Cache<?, ?> cache = cacheManager.createCache(name, configuration)
+                    .unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            Gauge.builder("events.l2cache.size", cache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                    .description("Entradas em cada região da cache de segundo nível")
+                    .tag("region", name)
+                    .register(meterRegistry);
+        });
+        log.info("Cache de segundo nível: regiões {}", regions.keySet());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(SecondLevelCacheProperties properties,
+                                                                    ObjectProvider<CacheManager> cacheManager) {
+        return hibernateProperties -> {
+            CacheManager manager = cacheManager.getIfAvailable();
+            boolean enabled = properties.isEnabled() && manager != null;
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, enabled && properties.isQueryCache());
+            if (enabled) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, manager);
+                hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaxEntries()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+        return configuration;
+    }
+}
@@ -0,0 +1,66 @@
+package mz.uem.events.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Estatísticas da cache de segundo nível por região (/actuator/l2cache)
+ *
+ * GET devolve acertos, falhas, inserções e entradas de cada região desde o arranque
+ * (requer hibernate.generate_statistics); DELETE esvazia todas as regiões, por exemplo
+ * depois de alterar a base de dados por fora da aplicação.
+ */
+@Component
+@Endpoint(id = "l2cache")
+@ConditionalOnProperty(prefix = "uem.events.second-level-cache", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+public class SecondLevelCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager secondLevelCacheManager;
+
+    public record RegionStats(long hits, long misses, long puts, double hitRatio, long entries) {
+    }
+
+    @ReadOperation
+    public Map<String, RegionStats> regions() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, RegionStats> regions = new LinkedHashMap<>();
+        for (String name : secondLevelCacheManager.getCacheNames()) {
+            CacheRegionStatistics region = statistics.isStatisticsEnabled()
+                    ? statistics.getCacheRegionStatistics(name) : null;
+            long hits = region != null ? region.getHitCount() : 0;
+            long misses = region != null ? region.getMissCount() : 0;
+            long puts = region != null ? region.getPutCount() : 0;
+            regions.put(name, new RegionStats(hits, misses, puts,
+                    hits + misses > 0 ? (double) hits / (hits + misses) : 0,
+                    entries(secondLevelCacheManager.getCache(name))));
+        }
+        return regions;
+    }
+
+    @DeleteOperation
+    public Map<String, RegionStats> evictAll() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        return regions();
+    }
+
+    private static long entries(Cache<Object, Object> cache) {
+        return cache != null ? cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize() : 0;
+    }
+}
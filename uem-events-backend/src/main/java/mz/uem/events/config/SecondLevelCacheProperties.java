@@ -0,0 +1,52 @@
+package mz.uem.events.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Cache de segundo nível do Hibernate (uem.events.second-level-cache.*)
+ *
+ * As escritas pelo Hibernate mantêm as regiões coerentes; a expiração só limita quanto
+ * tempo uma entrada fica desatualizada depois de uma escrita que o Hibernate desta
+ * instância não vê (SQL direto, outra instância na mesma base de dados).
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Resultados de findByCategory, findByStatus e findUpcomingEvents
+     */
+    private boolean queryCache = true;
+
+    /**
+     * Região das entidades Event
+     */
+    private Region events = new Region(10_000, Duration.ofMinutes(5));
+
+    /**
+     * Região das coleções de tags (uma entrada por evento)
+     */
+    private Region tags = new Region(10_000, Duration.ofMinutes(5));
+
+    /**
+     * Região dos resultados de consultas (uma entrada por consulta e parâmetros)
+     */
+    private Region queries = new Region(2_000, Duration.ofMinutes(1));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+
+        private long maxEntries;
+
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,404 @@
+package mz.uem.events.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.repository.EventRepository;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Gera eventos sintéticos com a distribuição configurada em uem.events.generator.*
+ * (categorias, status, datas, capacidades, ocupação e tags), para testes de carga e
+ * benchmarks com um catálogo próximo do real.
+ *
+ * Os eventos passados não passam na validação da entidade (@Future em eventDate), por
+ * isso a gravação é feita por JDBC, em lotes de chunkSize eventos por transação. Os IDs
+ * vêm de events_seq e registrations_seq como no otimizador pooled do Hibernate (cada
+ * nextval reserva os 50 IDs que terminam nele), pelo que os registos criados depois pela
+ * aplicação não colidem. Com registrationRows, cada evento leva tantas inscrições anónimas
+ * quantas o seu currentRegistrations, como os eventos de exemplo do DataInitializer.
+ *
+ * Corre antes de ApplicationReadyEvent: o índice de pesquisa e as estatísticas são
+ * construídos a seguir, já com os eventos gerados.
+ */
+@Component
+@ConditionalOnProperty(prefix = "uem.events.generator", name = "enabled", havingValue = "true")
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final int SEQUENCE_INCREMENT = 50;
+    private static final int PROGRESS_EVERY = 50_000;
+
+    private static final String INSERT_EVENT = "INSERT INTO events (id, title, description, event_date, location, "
+            + "organizer, category, max_capacity, current_registrations, status, image_url, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TAG = "INSERT INTO event_tags (event_id, tag) VALUES (?, ?)";
+    private static final String INSERT_REGISTRATION = "INSERT INTO registrations (id, event_id, created_at) VALUES (?, ?, ?)";
+    // Tipos explícitos: sem eles, cada null obriga a consultar os metadados dos parâmetros
+    private static final int[] EVENT_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+    private static final int[] TAG_TYPES = {Types.BIGINT, Types.VARCHAR};
+    private static final int[] REGISTRATION_TYPES = {Types.BIGINT, Types.BIGINT, Types.TIMESTAMP};
+    // Posições de current_registrations e created_at em INSERT_EVENT
+    private static final int REGISTRATIONS_COLUMN = 8;
+    private static final int CREATED_AT_COLUMN = 11;
+    // Inscrições enviadas por batchUpdate: um bloco de eventos grandes pode ter centenas de milhares
+    private static final int REGISTRATION_BATCH = 10_000;
+
+    private static final String[] LOCATIONS = {
+            "Complexo Pedagógico - Auditório Principal", "Anfiteatro Central", "Biblioteca Central",
+            "Campus Principal - Praça Central", "Estádio Universitário", "Campo de Futebol da UEM",
+            "Faculdade de Engenharia - Auditório", "Faculdade de Medicina - Anfiteatro",
+            "Faculdade de Direito - Sala Magna", "Faculdade de Economia - Auditório",
+            "Escola de Comunicação e Artes", "Centro de Informática - Laboratório",
+            "Sala de Conferências - Edifício Principal", "Pavilhão Gimnodesportivo", "Online"
+    };
+    private static final String[] ORGANIZERS = {
+            "Reitoria da UEM", "Faculdade de Engenharia - UEM", "Faculdade de Ciências - UEM",
+            "Faculdade de Medicina - UEM", "Faculdade de Direito - UEM", "Faculdade de Economia - UEM",
+            "Faculdade de Letras e Ciências Sociais - UEM", "Faculdade de Educação - UEM",
+            "Centro de Informática da UEM", "Pró-Reitoria de Pesquisa", "Associação de Estudantes da UEM",
+            "Departamento de Desportos", "Departamento de Carreiras e Empregabilidade",
+            "Incubadora de Empresas da UEM", "Escola de Comunicação e Artes"
+    };
+    private static final String[] DESCRIPTION_CLOSINGS = {
+            "Entrada livre mediante inscrição prévia.",
+            "As vagas são limitadas à capacidade da sala.",
+            "Será emitido certificado de participação.",
+            "Aberto a estudantes, docentes e comunidade.",
+            "O programa detalhado será divulgado na página da faculdade.",
+            "Haverá tradução simultânea para inglês."
+    };
+
+    private final GeneratorProperties properties;
+    private final EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ConfigurableApplicationContext context;
+
+    private PooledIds eventIds;
+    private PooledIds registrationIds;
+
+    @Override
+    public void run(String... args) {
+        long existing = eventRepository.count();
+        long missing = properties.getEvents() - existing;
+        if (missing <= 0) {
+            log.info("Gerador: a tabela já tem {} evento(s) (pretendidos {}), nada a gerar", existing, properties.getEvents());
+        } else {
+            generate(missing);
+        }
+        if (properties.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private void generate(long count) {
+        Picker<EventCategory> categories = new Picker<>(properties.getCategoryWeights(), EventCategory.class);
+        Picker<EventStatus> statuses = new Picker<>(properties.getStatusWeights(), EventStatus.class);
+        eventIds = new PooledIds("events_seq");
+        registrationIds = properties.isRegistrationRows() ? new PooledIds("registrations_seq") : null;
+        SplittableRandom random = new SplittableRandom(properties.getSeed() + eventRepository.count());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+        log.info("Gerador: a criar {} evento(s) em blocos de {}", count, properties.getChunkSize());
+        long startedAt = System.nanoTime();
+        long created = 0;
+        long registered = 0;
+        long reported = 0;
+        while (created < count) {
+            int size = (int) Math.min(properties.getChunkSize(), count - created);
+            List<Object[]> events = new ArrayList<>(size);
+            List<Object[]> tags = new ArrayList<>(size * 3);
+            long registrations = transactionTemplate.execute(status -> {
+                for (int i = 0; i < size; i++) {
+                    long id = eventIds.next();
+                    EventCategory category = categories.pick(random);
+                    events.add(event(id, category, statuses.pick(random), now, random));
+                    for (String tag : tags(category, random)) {
+                        tags.add(new Object[] {id, tag});
+                    }
+                }
+                jdbcTemplate.batchUpdate(INSERT_EVENT, events, EVENT_TYPES);
+                jdbcTemplate.batchUpdate(INSERT_TAG, tags, TAG_TYPES);
+                return registrationIds != null ? insertRegistrations(events) : 0L;
+            });
+            created += size;
+            registered += registrations;
+            if (created - reported >= PROGRESS_EVERY || created == count) {
+                reported = created;
+                double seconds = (System.nanoTime() - startedAt) / 1e9;
+                log.info("Gerador: {}/{} evento(s), {} inscrição(ões) ({} eventos por segundo)",
+                        created, count, registered, Math.round(created / seconds));
+            }
+        }
+        // Os inserts JDBC não passam pelo Hibernate: descartar consultas já em cache
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().evictAllRegions();
+    }
+
+    /**
+     * Inscrições anónimas de cada evento do bloco (current_registrations linhas, com a data
+     * de criação do evento), enviadas em lotes de REGISTRATION_BATCH
+     */
+    private long insertRegistrations(List<Object[]> events) {
+        List<Object[]> rows = new ArrayList<>(REGISTRATION_BATCH);
+        long inserted = 0;
+        for (Object[] event : events) {
+            int count = (Integer) event[REGISTRATIONS_COLUMN];
+            for (int i = 0; i < count; i++) {
+                rows.add(new Object[] {registrationIds.next(), event[0], event[CREATED_AT_COLUMN]});
+                if (rows.size() == REGISTRATION_BATCH) {
+                    jdbcTemplate.batchUpdate(INSERT_REGISTRATION, rows, REGISTRATION_TYPES);
+                    inserted += rows.size();
+                    rows.clear();
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_REGISTRATION, rows, REGISTRATION_TYPES);
+        return inserted + rows.size();
+    }
+
+    private Object[] event(long id, EventCategory category, EventStatus status, LocalDateTime now, SplittableRandom random) {
+        LocalDateTime eventDate = eventDate(status, now, random);
+        int maxCapacity = capacity(random);
+        int registrations = registrations(status, maxCapacity, random);
+        Topic topic = Topic.of(category);
+        String subject = topic.subjects[random.nextInt(topic.subjects.length)];
+        String title = topic.titles[random.nextInt(topic.titles.length)] + " " + subject;
+        if (random.nextInt(4) == 0) {
+            title += " " + eventDate.getYear();
+        }
+        StringBuilder description = new StringBuilder(topic.description.formatted(subject.toLowerCase()));
+        for (int sentences = 1 + random.nextInt(3); sentences > 0; sentences--) {
+            description.append(' ').append(DESCRIPTION_CLOSINGS[random.nextInt(DESCRIPTION_CLOSINGS.length)]);
+        }
+        String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+        if (random.nextInt(3) == 0) {
+            location += " - Sala " + (100 + random.nextInt(300));
+        }
+        String imageUrl = random.nextInt(10) < 7 ? "https://www.uem.mz/imagens/eventos/" + id + ".jpg" : null;
+        LocalDateTime createdAt = eventDate.minusDays(7 + random.nextInt(60));
+        Timestamp created = Timestamp.valueOf(createdAt.isBefore(now) ? createdAt : now);
+        return new Object[] {
+            id, title, description.toString(), Timestamp.valueOf(eventDate), location,
+            ORGANIZERS[random.nextInt(ORGANIZERS.length)], category.name(), maxCapacity, registrations,
+            status.name(), imageUrl, created, created
+        };
+    }
+
+    /**
+     * Data coerente com o status, em dias úteis (80%) e horas de aulas, às horas e meias horas
+     */
+    private LocalDateTime eventDate(EventStatus status, LocalDateTime now, SplittableRandom random) {
+        if (status == EventStatus.ONGOING) {
+            return now.minusMinutes(30L * random.nextInt(1, 4));
+        }
+        long historyMinutes = properties.getHistory().toMinutes();
+        long horizonMinutes = properties.getHorizon().toMinutes();
+        long offset = switch (status) {
+            case UPCOMING -> 60 + random.nextLong(Math.max(1, horizonMinutes - 60));
+            case COMPLETED -> -(180 + random.nextLong(Math.max(1, historyMinutes - 180)));
+            default -> random.nextLong(-historyMinutes, Math.max(-historyMinutes + 1, horizonMinutes));
+        };
+        LocalDateTime date = now.plusMinutes(offset).truncatedTo(ChronoUnit.DAYS);
+        if (random.nextInt(10) < 8) {
+            while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                date = date.plusDays(status == EventStatus.COMPLETED ? -1 : 1);
+            }
+        }
+        date = date.plusHours(8 + random.nextInt(11)).plusMinutes(30L * random.nextInt(2));
+        // O ajuste de dia e hora não pode trocar passado por futuro
+        if (status == EventStatus.UPCOMING && !date.isAfter(now)) {
+            date = now.plusHours(1 + random.nextInt(48));
+        } else if (status == EventStatus.COMPLETED && !date.isBefore(now.minusHours(3))) {
+            date = now.minusDays(1 + random.nextInt(30));
+        }
+        return date;
+    }
+
+    private int capacity(SplittableRandom random) {
+        double min = Math.log(properties.getMinCapacity());
+        double max = Math.log(Math.max(properties.getMinCapacity(), properties.getMaxCapacity()));
+        int capacity = (int) Math.round(Math.exp(min + random.nextDouble() * (max - min)));
+        return capacity > 100 ? capacity / 10 * 10 : capacity;
+    }
+
+    private int registrations(EventStatus status, int maxCapacity, SplittableRandom random) {
+        double occupancy = switch (status) {
+            case UPCOMING -> random.nextDouble() < properties.getFullUpcomingRatio() ? 1.0 : Math.pow(random.nextDouble(), 1.5);
+            case ONGOING, COMPLETED -> 0.5 + random.nextDouble() * 0.5;
+            case CANCELLED -> random.nextDouble() * 0.5;
+        };
+        return (int) Math.min(maxCapacity, Math.round(maxCapacity * occupancy));
+    }
+
+    private List<String> tags(EventCategory category, SplittableRandom random) {
+        String[] pool = Topic.of(category).tags;
+        int count = Math.min(pool.length, random.nextInt(properties.getMinTags(), Math.max(properties.getMinTags(), properties.getMaxTags()) + 1));
+        List<String> tags = new ArrayList<>(count);
+        while (tags.size() < count) {
+            String tag = pool[random.nextInt(pool.length)];
+            if (!tags.contains(tag)) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * IDs de uma sequência, reservados em blocos de 50 como no otimizador pooled do Hibernate
+     */
+    private final class PooledIds {
+
+        private final String nextValue;
+        // Próximo ID e último ID do bloco reservado; o primeiro pedido reserva um bloco
+        private long nextId = 1;
+        private long lastReservedId;
+
+        PooledIds(String sequence) {
+            this.nextValue = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect().getSequenceSupport().getSequenceNextValString(sequence);
+        }
+
+        long next() {
+            if (nextId > lastReservedId) {
+                long hi = jdbcTemplate.queryForObject(nextValue, Long.class);
+                lastReservedId = hi;
+                nextId = Math.max(1, hi - SEQUENCE_INCREMENT + 1);
+            }
+            return nextId++;
+        }
+    }
+
+    /**
+     * Escolha ponderada de um valor de enum
+     */
+    private static final class Picker<E extends Enum<E>> {
+
+        private final List<E> values = new ArrayList<>();
+        private final List<Double> cumulative = new ArrayList<>();
+        private double total;
+
+        Picker(Map<E, Double> weights, Class<E> type) {
+            for (E value : type.getEnumConstants()) {
+                double weight = weights.getOrDefault(value, 0.0);
+                if (weight > 0) {
+                    total += weight;
+                    values.add(value);
+                    cumulative.add(total);
+                }
+            }
+            if (values.isEmpty()) {
+                throw new IllegalStateException("uem.events.generator: todos os pesos de " + type.getSimpleName() + " são 0");
+            }
+        }
+
+        E pick(SplittableRandom random) {
+            double target = random.nextDouble() * total;
+            for (int i = 0; i < values.size(); i++) {
+                if (target < cumulative.get(i)) {
+                    return values.get(i);
+                }
+            }
+            return values.get(values.size() - 1);
+        }
+    }
+
+    /**
+     * Títulos, assuntos, descrição e tags de cada categoria
+     */
+    private record Topic(String[] titles, String[] subjects, String description, String[] tags) {
+
+        private static final Map<EventCategory, Topic> TOPICS = new EnumMap<>(EventCategory.class);
+
+        static {
+            TOPICS.put(EventCategory.ACADEMIC, new Topic(
+                    new String[] {"Jornadas Científicas de", "Colóquio de", "Defesa Pública em", "Aula Aberta de"},
+                    new String[] {"Biologia", "Química", "Matemática", "História", "Geografia", "Física", "Linguística"},
+                    "Apresentação e debate de trabalhos de investigação em %s desenvolvidos por docentes e estudantes.",
+                    new String[] {"Académico", "Pesquisa", "Ciência", "Investigação", "Docentes", "Estudantes"}));
+            TOPICS.put(EventCategory.SEMINAR, new Topic(
+                    new String[] {"Seminário de", "Ciclo de Seminários em", "Seminário Internacional de"},
+                    new String[] {"Saúde Pública", "Direito Constitucional", "Economia do Desenvolvimento",
+                            "Educação", "Agronomia", "Recursos Hídricos", "Sociologia"},
+                    "Seminário sobre %s com especialistas nacionais e convidados de universidades parceiras.",
+                    new String[] {"Seminário", "Debate", "Pesquisa", "Políticas Públicas", "Saúde", "Direito"}));
+            TOPICS.put(EventCategory.WORKSHOP, new Topic(
+                    new String[] {"Workshop de", "Oficina Prática de", "Formação Intensiva em"},
+                    new String[] {"Escrita Científica", "Análise de Dados", "Excel Avançado", "Fotografia",
+                            "Comunicação em Público", "Gestão de Projetos", "Design Gráfico"},
+                    "Sessão prática de %s com exercícios em grupo e materiais de apoio disponibilizados.",
+                    new String[] {"Workshop", "Formação", "Prática", "Competências", "Hands-on"}));
+            TOPICS.put(EventCategory.TECH, new Topic(
+                    new String[] {"Workshop de", "Hackathon de", "Bootcamp de", "Meetup de"},
+                    new String[] {"Inteligência Artificial", "Cloud Computing", "Desenvolvimento Web", "Cibersegurança",
+                            "Ciência de Dados", "Desenvolvimento Mobile", "Internet das Coisas"},
+                    "Encontro sobre %s com demonstrações, palestras técnicas e projetos de estudantes.",
+                    new String[] {"Tecnologia", "Inovação", "Programação", "IA", "Cloud", "Dados", "Startups"}));
+            TOPICS.put(EventCategory.CULTURAL, new Topic(
+                    new String[] {"Festival de", "Noite de", "Exposição de", "Mostra de"},
+                    new String[] {"Marrabenta", "Teatro Universitário", "Poesia", "Artes Plásticas", "Cinema Moçambicano",
+                            "Dança Tradicional", "Fotografia"},
+                    "Celebração de %s com artistas da comunidade académica e convidados.",
+                    new String[] {"Cultura", "Arte", "Música", "Dança", "Teatro", "Exposição"}));
+            TOPICS.put(EventCategory.SPORTS, new Topic(
+                    new String[] {"Torneio Inter-Faculdades de", "Campeonato Universitário de", "Jogos de"},
+                    new String[] {"Futebol", "Basquetebol", "Voleibol", "Atletismo", "Andebol", "Xadrez", "Natação"},
+                    "Competição de %s entre as equipas das faculdades, com entrada livre para o público.",
+                    new String[] {"Desporto", "Competição", "Futebol", "Saúde", "Equipas"}));
+            TOPICS.put(EventCategory.CONFERENCE, new Topic(
+                    new String[] {"Conferência Nacional de", "Conferência Internacional sobre", "Simpósio de"},
+                    new String[] {"Tecnologia e Inovação", "Alterações Climáticas", "Ensino Superior", "Energia",
+                            "Saúde Global", "Governação", "Agricultura Sustentável"},
+                    "Conferência sobre %s com sessões plenárias, painéis temáticos e apresentação de comunicações.",
+                    new String[] {"Conferência", "Networking", "Pesquisa", "Inovação", "Internacional"}));
+            TOPICS.put(EventCategory.GRADUATION, new Topic(
+                    new String[] {"Cerimónia de Graduação da", "Outorga de Diplomas da"},
+                    new String[] {"Faculdade de Engenharia", "Faculdade de Medicina", "Faculdade de Direito",
+                            "Faculdade de Economia", "Faculdade de Ciências", "Faculdade de Educação"},
+                    "Cerimónia solene da %s para celebrar as conquistas académicas dos graduados.",
+                    new String[] {"Graduação", "Formatura", "Celebração", "Diplomas"}));
+            TOPICS.put(EventCategory.CAREER, new Topic(
+                    new String[] {"Feira de Emprego de", "Sessão de Recrutamento de", "Mentoria em"},
+                    new String[] {"Engenharia", "Banca e Finanças", "Tecnologias de Informação", "Saúde",
+                            "Setor Público", "Organizações Não Governamentais"},
+                    "Oportunidades de estágio e emprego em %s, com empresas e instituições parceiras.",
+                    new String[] {"Carreira", "Emprego", "Estágio", "Networking", "Recrutamento"}));
+            TOPICS.put(EventCategory.OTHER, new Topic(
+                    new String[] {"Sessão de Boas-Vindas de", "Encontro de", "Campanha de"},
+                    new String[] {"Novos Estudantes", "Alumni", "Voluntariado", "Doação de Sangue", "Sensibilização Ambiental"},
+                    "Atividade dedicada a %s, organizada com o apoio dos serviços sociais da universidade.",
+                    new String[] {"Comunidade", "Estudantes", "Voluntariado", "Campus"}));
+        }
+
+        static Topic of(EventCategory category) {
+            return TOPICS.get(category);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package mz.uem.events.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Verificação do modo virtual threads (perfil virtual-threads).
+ * 
+ * Com spring.threads.virtual.enabled o Tomcat, o executor de tarefas assíncronas
+ * (incluindo as respostas em streaming) e o agendador passam a usar virtual threads,
+ * mas só a partir do Java 21; numa JVM anterior a propriedade é ignorada em silêncio
+ * e a aplicação continua no pool de threads do Tomcat.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadsConfig {
+    
+    private static final int MINIMUM_JAVA = 21;
+    
+    @PostConstruct
+    void checkRuntime() {
+        int java = Runtime.version().feature();
+        if (java < MINIMUM_JAVA) {
+            log.warn("spring.threads.virtual.enabled ignorado: requer Java {} (em execução: Java {}); " +
+                    "os pedidos continuam no pool de threads do Tomcat", MINIMUM_JAVA, java);
+        } else {
+            log.info("Pedidos e tarefas assíncronas em virtual threads (Java {})", java);
+        }
+    }
+}
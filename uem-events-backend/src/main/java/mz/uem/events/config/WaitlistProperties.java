@@ -0,0 +1,26 @@
+package mz.uem.events.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuração da fila de espera dos eventos lotados (uem.events.waitlist.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "uem.events.waitlist")
+public class WaitlistProperties {
+    
+    /**
+     * Pedidos identificados (participante ou Idempotency-Key) num evento lotado entram
+     * na fila; desligado, respondem 400 como antes
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Intervalo entre verificações das filas ativas, para vagas libertadas
+     * sem notificação (outra instância, alterações diretas na base de dados)
+     */
+    private Duration sweepInterval = Duration.ofSeconds(30);
+}
@@ -1,28 +1,62 @@
 package mz.uem.events.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.config.BinaryContentConfig;
 import mz.uem.events.dto.CreateEventRequest;
+import mz.uem.events.dto.EventBatchRequest;
+import mz.uem.events.dto.EventBatchResult;
 import mz.uem.events.dto.EventCardDTO;
 import mz.uem.events.dto.EventDTO;
+import mz.uem.events.dto.EventFieldSet;
+import mz.uem.events.dto.EventSparseCard;
+import mz.uem.events.dto.EventStatsDTO;
+import mz.uem.events.dto.EventVersion;
+import mz.uem.events.dto.ImportResult;
+import mz.uem.events.dto.RegistrationRequest;
+import mz.uem.events.dto.RegistrationResult;
+import mz.uem.events.dto.WaitlistTicket;
 import mz.uem.events.entity.EventCategory;
 import mz.uem.events.entity.EventStatus;
+import mz.uem.events.repository.EventProjectionRepository.Listing;
+import mz.uem.events.service.EventImportService;
 import mz.uem.events.service.EventService;
+import mz.uem.events.service.EventUpdateFeed;
+import mz.uem.events.service.EventVersions;
+import mz.uem.events.service.WaitlistService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * REST Controller para gerenciamento de eventos
@@ -35,17 +69,38 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class EventController {
     
+    /**
+     * Eventos escritos entre cada envio ao cliente no modo streaming
+     */
+    private static final int STREAM_FLUSH_EVERY = 100;
+    
+    /**
+     * Segundos indicados em Retry-After quando o feed SSE está cheio
+     */
+    private static final int STREAM_RETRY_AFTER_SECONDS = 5;
+    
+    /**
+     * Cabeçalho da resposta quando a inscrição já existia e o pedido foi tratado como repetição
+     */
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    
     private final EventService eventService;
+    private final EventImportService eventImportService;
+    private final EventUpdateFeed eventUpdateFeed;
+    private final WaitlistService waitlistService;
+    private final ObjectMapper objectMapper;
     
     /**
      * Lista todos os eventos com paginação
      */
     @GetMapping
-    @Operation(summary = "Listar todos os eventos", description = "Retorna uma lista paginada de eventos")
+    @Operation(summary = "Listar todos os eventos", description = "Retorna uma lista paginada de eventos. " +
+            "No modo cursor a ordenação é sempre por eventDate e id ascendentes e não há contagem total")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Lista de eventos retornada com sucesso")
+        @ApiResponse(responseCode = "200", description = "Lista de eventos retornada com sucesso"),
+        @ApiResponse(responseCode = "304", description = "Página não modificada desde a versão indicada")
     })
-    public ResponseEntity<Page<EventCardDTO>> getAllEvents(
+    public ResponseEntity<?> getAllEvents(
             @Parameter(description = "Número da página (começa em 0)") 
             @RequestParam(defaultValue = "0") int page,
             
@@ -56,18 +111,46 @@ public class EventController {
             @RequestParam(defaultValue = "eventDate") String sortBy,
             
             @Parameter(description = "Direção da ordenação (ASC ou DESC)") 
-            @RequestParam(defaultValue = "ASC") String sortDirection) {
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @Parameter(description = "Modo de paginação: offset (por omissão) ou cursor") 
+            @RequestParam(defaultValue = "offset") String pagination,
+            
+            @Parameter(description = "Cursor devolvido em nextCursor; implica pagination=cursor") 
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Campos a devolver, separados por vírgula (ex.: title,eventDate,availableCapacity); " +
+                    "o id é sempre incluído") 
+            @RequestParam(required = false) String fields,
+            
+            @Parameter(description = "Corta a descrição neste número de caracteres") 
+            @RequestParam(required = false) Integer excerpt,
+            
+            @Parameter(hidden = true)
+            @RequestHeader HttpHeaders headers) {
         
         log.info("GET /api/events - page: {}, size: {}", page, size);
         
+        EventFieldSet fieldSet = EventFieldSet.parse(fields, excerpt);
+        if (isCursorMode(pagination, cursor)) {
+            return ResponseEntity.ok(fieldSet != null
+                    ? eventService.scrollSparseCards(Listing.all(), cursor, size, fieldSet)
+                    : eventService.scrollEvents(cursor, size));
+        }
+        
         Sort sort = sortDirection.equalsIgnoreCase("DESC") 
                 ? Sort.by(sortBy).descending() 
                 : Sort.by(sortBy).ascending();
         
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<EventCardDTO> events = eventService.getAllEvents(pageable);
-        
-        return ResponseEntity.ok(events);
+        if (fieldSet != null) {
+            return sparseGet(headers, fieldSet,
+                    () -> eventService.getAllEventsVersion(pageable),
+                    () -> eventService.getSparseCards(Listing.all(), pageable, fieldSet));
+        }
+        return conditionalGet(headers,
+                () -> eventService.getAllEventsVersion(pageable),
+                () -> eventService.getAllEvents(pageable),
+                EventVersions::ofCards);
     }
     
     /**
@@ -77,15 +160,54 @@ public class EventController {
     @Operation(summary = "Buscar evento por ID", description = "Retorna os detalhes completos de um evento")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Evento encontrado"),
+        @ApiResponse(responseCode = "304", description = "Evento não modificado desde a versão indicada"),
         @ApiResponse(responseCode = "404", description = "Evento não encontrado")
     })
     public ResponseEntity<EventDTO> getEventById(
             @Parameter(description = "ID do evento") 
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            
+            @Parameter(hidden = true)
+            @RequestHeader HttpHeaders headers) {
         
         log.info("GET /api/events/{}", id);
-        EventDTO event = eventService.getEventById(id);
-        return ResponseEntity.ok(event);
+        return conditionalGet(headers,
+                () -> eventService.getEventVersion(id),
+                () -> eventService.getEventById(id),
+                EventVersions::of);
+    }
+    
+    /**
+     * Busca vários eventos por ID
+     */
+    @GetMapping("/batch")
+    @Operation(summary = "Buscar eventos em lote", description = "Devolve os eventos pela ordem dos IDs pedidos; " +
+            "IDs inexistentes aparecem com found = false. Limite de IDs em uem.events.batch.max-ids")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Eventos encontrados e marcadores dos inexistentes"),
+        @ApiResponse(responseCode = "422", description = "Nenhum ID ou IDs acima do limite")
+    })
+    public ResponseEntity<EventBatchResult> getEventsByIds(
+            @Parameter(description = "IDs dos eventos, separados por vírgula") 
+            @RequestParam(required = false) List<Long> ids) {
+        
+        log.info("GET /api/events/batch - {} IDs", ids != null ? ids.size() : 0);
+        return ResponseEntity.ok(eventService.getEventsByIds(ids));
+    }
+    
+    /**
+     * Busca vários eventos por ID (lista no corpo, para listas longas)
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Buscar eventos em lote (POST)", description = "Igual a GET /batch, com os IDs no corpo")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Eventos encontrados e marcadores dos inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Pedido inválido"),
+        @ApiResponse(responseCode = "422", description = "IDs acima do limite")
+    })
+    public ResponseEntity<EventBatchResult> getEventsByIdsFromBody(@Valid @RequestBody EventBatchRequest request) {
+        log.info("POST /api/events/batch - {} IDs", request.getIds().size());
+        return ResponseEntity.ok(eventService.getEventsByIds(request.getIds()));
     }
     
     /**
@@ -106,6 +228,33 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEvent);
     }
     
+    /**
+     * Importa eventos em lote (CSV ou NDJSON)
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Importar eventos (CSV)", description = "Cria eventos a partir de um CSV com cabeçalho " +
+            "(title, description, eventDate, location, organizer, category, maxCapacity, imageUrl, tags, status). " +
+            "Tags separadas por ';'. As linhas inválidas são rejeitadas individualmente")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Importação concluída (ver erros por linha)"),
+        @ApiResponse(responseCode = "422", description = "Ficheiro vazio ou cabeçalho não reconhecido")
+    })
+    public ResponseEntity<ImportResult> importEventsCsv(InputStream body) throws IOException {
+        log.info("POST /api/events/import (CSV)");
+        return ResponseEntity.ok(eventImportService.importCsv(body));
+    }
+    
+    /**
+     * Importa eventos em lote, um JSON de CreateEventRequest por linha
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Importar eventos (NDJSON)", description = "Cria eventos a partir de um JSON por linha, " +
+            "com os mesmos campos do pedido de criação. As linhas inválidas são rejeitadas individualmente")
+    public ResponseEntity<ImportResult> importEventsNdjson(InputStream body) throws IOException {
+        log.info("POST /api/events/import (NDJSON)");
+        return ResponseEntity.ok(eventImportService.importNdjson(body));
+    }
+    
     /**
      * Atualiza um evento existente
      */
@@ -151,17 +300,48 @@ public class EventController {
      */
     @GetMapping("/category/{category}")
     @Operation(summary = "Filtrar por categoria", description = "Retorna eventos de uma categoria específica")
-    public ResponseEntity<Page<EventCardDTO>> getEventsByCategory(
+    public ResponseEntity<?> getEventsByCategory(
             @Parameter(description = "Categoria do evento") 
             @PathVariable EventCategory category,
             
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            
+            @Parameter(description = "Modo de paginação: offset (por omissão) ou cursor") 
+            @RequestParam(defaultValue = "offset") String pagination,
+            
+            @Parameter(description = "Cursor devolvido em nextCursor; implica pagination=cursor") 
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Campos a devolver, separados por vírgula (ex.: title,eventDate,availableCapacity); " +
+                    "o id é sempre incluído") 
+            @RequestParam(required = false) String fields,
+            
+            @Parameter(description = "Corta a descrição neste número de caracteres") 
+            @RequestParam(required = false) Integer excerpt,
+            
+            @Parameter(hidden = true)
+            @RequestHeader HttpHeaders headers) {
         
         log.info("GET /api/events/category/{}", category);
+        
+        EventFieldSet fieldSet = EventFieldSet.parse(fields, excerpt);
+        if (isCursorMode(pagination, cursor)) {
+            return ResponseEntity.ok(fieldSet != null
+                    ? eventService.scrollSparseCards(Listing.byCategory(category), cursor, size, fieldSet)
+                    : eventService.scrollEventsByCategory(category, cursor, size));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
-        Page<EventCardDTO> events = eventService.getEventsByCategory(category, pageable);
-        return ResponseEntity.ok(events);
+        if (fieldSet != null) {
+            return sparseGet(headers, fieldSet,
+                    () -> eventService.getEventsByCategoryVersion(category, pageable),
+                    () -> eventService.getSparseCards(Listing.byCategory(category), pageable, fieldSet));
+        }
+        return conditionalGet(headers,
+                () -> eventService.getEventsByCategoryVersion(category, pageable),
+                () -> eventService.getEventsByCategory(category, pageable),
+                EventVersions::ofCards);
     }
     
     /**
@@ -169,17 +349,48 @@ public class EventController {
      */
     @GetMapping("/status/{status}")
     @Operation(summary = "Filtrar por status", description = "Retorna eventos com um status específico")
-    public ResponseEntity<Page<EventCardDTO>> getEventsByStatus(
+    public ResponseEntity<?> getEventsByStatus(
             @Parameter(description = "Status do evento") 
             @PathVariable EventStatus status,
             
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            
+            @Parameter(description = "Modo de paginação: offset (por omissão) ou cursor") 
+            @RequestParam(defaultValue = "offset") String pagination,
+            
+            @Parameter(description = "Cursor devolvido em nextCursor; implica pagination=cursor") 
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Campos a devolver, separados por vírgula (ex.: title,eventDate,availableCapacity); " +
+                    "o id é sempre incluído") 
+            @RequestParam(required = false) String fields,
+            
+            @Parameter(description = "Corta a descrição neste número de caracteres") 
+            @RequestParam(required = false) Integer excerpt,
+            
+            @Parameter(hidden = true)
+            @RequestHeader HttpHeaders headers) {
         
         log.info("GET /api/events/status/{}", status);
+        
+        EventFieldSet fieldSet = EventFieldSet.parse(fields, excerpt);
+        if (isCursorMode(pagination, cursor)) {
+            return ResponseEntity.ok(fieldSet != null
+                    ? eventService.scrollSparseCards(Listing.byStatus(status), cursor, size, fieldSet)
+                    : eventService.scrollEventsByStatus(status, cursor, size));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
-        Page<EventCardDTO> events = eventService.getEventsByStatus(status, pageable);
-        return ResponseEntity.ok(events);
+        if (fieldSet != null) {
+            return sparseGet(headers, fieldSet,
+                    () -> eventService.getEventsByStatusVersion(status, pageable),
+                    () -> eventService.getSparseCards(Listing.byStatus(status), pageable, fieldSet));
+        }
+        return conditionalGet(headers,
+                () -> eventService.getEventsByStatusVersion(status, pageable),
+                () -> eventService.getEventsByStatus(status, pageable),
+                EventVersions::ofCards);
     }
     
     /**
@@ -193,37 +404,340 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
     
+    /**
+     * Eventos próximos em NDJSON (um evento por linha), escritos à medida que são lidos
+     */
+    @GetMapping(value = "/upcoming", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Eventos próximos (NDJSON)", description = "Transmite os próximos eventos, um JSON por linha, " +
+            "em memória constante")
+    public ResponseEntity<StreamingResponseBody> streamUpcomingEventsAsNdjson() {
+        log.info("GET /api/events/upcoming (NDJSON)");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> writeUpcomingEvents(out, false));
+    }
+    
+    /**
+     * Eventos próximos como array JSON transmitido (chunked) em vez de materializado
+     */
+    @GetMapping(value = "/upcoming", params = "stream=true")
+    @Operation(summary = "Eventos próximos (array transmitido)", description = "Mesmo resultado de /upcoming, " +
+            "escrito à medida que os eventos são lidos, em memória constante")
+    public ResponseEntity<StreamingResponseBody> streamUpcomingEventsAsArray() {
+        log.info("GET /api/events/upcoming (stream)");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> writeUpcomingEvents(out, true));
+    }
+    
+    /**
+     * Feed SSE de alterações de vagas e status
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Feed de vagas (SSE)", description = "Envia eventos \"capacity\" com vagas e status sempre que " +
+            "um evento recebe inscrições, é atualizado ou removido. As alterações de cada evento são agregadas " +
+            "(no máximo algumas mensagens por segundo por evento)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Ligação aberta"),
+        @ApiResponse(responseCode = "503", description = "Limite de subscritores atingido")
+    })
+    public void streamEventUpdates(
+            @Parameter(description = "IDs dos eventos a acompanhar (por omissão, todos)") 
+            @RequestParam(required = false) Set<Long> eventIds,
+            
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        
+        log.info("GET /api/events/stream - eventIds: {}", eventIds);
+        if (!eventUpdateFeed.subscribe(eventIds, request, response)) {
+            // Sem corpo: o cliente pediu text/event-stream e o ErrorResponse é JSON
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(STREAM_RETRY_AFTER_SECONDS));
+        }
+    }
+    
     /**
      * Busca eventos com vagas disponíveis
      */
     @GetMapping("/available")
     @Operation(summary = "Eventos com vagas", description = "Retorna eventos que ainda têm vagas disponíveis")
-    public ResponseEntity<Page<EventCardDTO>> getEventsWithAvailableCapacity(
+    public ResponseEntity<?> getEventsWithAvailableCapacity(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            
+            @Parameter(description = "Modo de paginação: offset (por omissão) ou cursor") 
+            @RequestParam(defaultValue = "offset") String pagination,
+            
+            @Parameter(description = "Cursor devolvido em nextCursor; implica pagination=cursor") 
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Campos a devolver, separados por vírgula (ex.: title,eventDate,availableCapacity); " +
+                    "o id é sempre incluído") 
+            @RequestParam(required = false) String fields,
+            
+            @Parameter(description = "Corta a descrição neste número de caracteres") 
+            @RequestParam(required = false) Integer excerpt,
+            
+            @Parameter(hidden = true)
+            @RequestHeader HttpHeaders headers) {
         
         log.info("GET /api/events/available");
+        
+        EventFieldSet fieldSet = EventFieldSet.parse(fields, excerpt);
+        if (isCursorMode(pagination, cursor)) {
+            return ResponseEntity.ok(fieldSet != null
+                    ? eventService.scrollSparseCards(Listing.available(), cursor, size, fieldSet)
+                    : eventService.scrollEventsWithAvailableCapacity(cursor, size));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
-        Page<EventCardDTO> events = eventService.getEventsWithAvailableCapacity(pageable);
+        if (fieldSet != null) {
+            return sparseGet(headers, fieldSet,
+                    () -> eventService.getEventsWithAvailableCapacityVersion(pageable),
+                    () -> eventService.getSparseCards(Listing.available(), pageable, fieldSet));
+        }
+        return conditionalGet(headers,
+                () -> eventService.getEventsWithAvailableCapacityVersion(pageable),
+                () -> eventService.getEventsWithAvailableCapacity(pageable),
+                EventVersions::ofCards);
+    }
+    
+    /**
+     * Pesquisa eventos por texto
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Pesquisar eventos", description = "Pesquisa no título, descrição, organizador, local e tags, " +
+            "sem distinguir acentos nem maiúsculas. Devolve os eventos que contêm todos os termos, por relevância")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Resultados da pesquisa"),
+        @ApiResponse(responseCode = "422", description = "Termo de pesquisa em falta"),
+        @ApiResponse(responseCode = "503", description = "Índice de pesquisa ainda em construção")
+    })
+    public ResponseEntity<Page<EventCardDTO>> searchEvents(
+            @Parameter(description = "Texto a pesquisar") 
+            @RequestParam(defaultValue = "") String q,
+            
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("GET /api/events/search - q: {}", q);
+        Page<EventCardDTO> events = eventService.searchEvents(q, PageRequest.of(page, size));
         return ResponseEntity.ok(events);
     }
     
+    /**
+     * Estatísticas agregadas para o painel de administração
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Estatísticas dos eventos", description = "Totais por categoria e status, inscrições e " +
+            "distribuição da ocupação. Mantidas em memória e reconciliadas periodicamente com a base de dados")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Estatísticas atuais"),
+        @ApiResponse(responseCode = "503", description = "Estatísticas ainda em cálculo (arranque)")
+    })
+    public ResponseEntity<EventStatsDTO> getEventStatistics() {
+        log.info("GET /api/events/stats");
+        return ResponseEntity.ok(eventService.getEventStatistics());
+    }
+    
     /**
      * Registra um participante no evento
      */
     @PostMapping("/{id}/register")
-    @Operation(summary = "Registrar participante", description = "Incrementa o contador de inscrições do evento")
+    @Operation(summary = "Registrar participante", description = "Grava a inscrição e incrementa o contador do evento. "
+            + "Repetir o pedido com o mesmo Idempotency-Key, ou para o mesmo participante, não cria nova inscrição. "
+            + "Num evento lotado, um pedido com participante ou Idempotency-Key entra na fila de espera (202)")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Participante registrado com sucesso"),
-        @ApiResponse(responseCode = "400", description = "Evento lotado ou não aceita mais inscrições"),
+        @ApiResponse(responseCode = "200", description = "Participante registrado (ou inscrição já existente, com Idempotent-Replayed: true)"),
+        @ApiResponse(responseCode = "202", description = "Evento lotado: bilhete da fila de espera (Location aponta para o bilhete)"),
+        @ApiResponse(responseCode = "400", description = "Evento lotado (pedido anónimo) ou não aceita mais inscrições"),
         @ApiResponse(responseCode = "404", description = "Evento não encontrado")
     })
-    public ResponseEntity<EventDTO> registerParticipant(
+    public ResponseEntity<?> registerParticipant(
             @Parameter(description = "ID do evento") 
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "Chave única por tentativa lógica; as repetições devolvem o estado atual sem nova inscrição")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody(required = false) RegistrationRequest request) {
         
         log.info("POST /api/events/{}/register", id);
-        EventDTO event = eventService.registerParticipant(id);
-        return ResponseEntity.ok(event);
+        String attendee = request != null ? request.getAttendee() : null;
+        RegistrationResult result = eventService.registerParticipant(id, attendee, idempotencyKey);
+        ResponseEntity.BodyBuilder response = result.getWaitlist() != null
+                ? ResponseEntity.accepted().location(URI.create("/api/events/" + id + "/waitlist/" + result.getWaitlist().getTicket()))
+                : ResponseEntity.ok();
+        if (result.isReplayed()) {
+            response.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        return response.body(result.getWaitlist() != null ? result.getWaitlist() : result.getEvent());
+    }
+    
+    /**
+     * Cancela a inscrição de um participante
+     */
+    @DeleteMapping("/{id}/register")
+    @Operation(summary = "Cancelar inscrição", description = "Remove a inscrição identificada pelo participante ou pela "
+            + "Idempotency-Key usada ao registrar. A vaga passa ao primeiro da fila de espera, se houver")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Inscrição cancelada"),
+        @ApiResponse(responseCode = "404", description = "Evento ou inscrição não encontrados"),
+        @ApiResponse(responseCode = "422", description = "Participante e Idempotency-Key em falta")
+    })
+    public ResponseEntity<EventDTO> cancelRegistration(
+            @Parameter(description = "ID do evento") 
+            @PathVariable Long id,
+            @Parameter(description = "Participante da inscrição")
+            @RequestParam(required = false) String attendee,
+            @Parameter(description = "Idempotency-Key usada ao registrar")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        
+        log.info("DELETE /api/events/{}/register", id);
+        return ResponseEntity.ok(eventService.cancelRegistration(id, attendee, idempotencyKey));
+    }
+    
+    /**
+     * Estado de um pedido na fila de espera
+     */
+    @GetMapping("/{id}/waitlist/{ticket}")
+    @Operation(summary = "Bilhete da fila de espera", description = "Estado e posição de um pedido na fila de espera")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Estado do bilhete"),
+        @ApiResponse(responseCode = "404", description = "Bilhete não encontrado")
+    })
+    public ResponseEntity<WaitlistTicket> getWaitlistTicket(@PathVariable Long id, @PathVariable Long ticket) {
+        log.info("GET /api/events/{}/waitlist/{}", id, ticket);
+        return ResponseEntity.ok(waitlistService.getTicket(id, ticket));
+    }
+    
+    /**
+     * Notificação (SSE) da promoção de um pedido da fila de espera
+     */
+    @GetMapping(value = "/{id}/waitlist/{ticket}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar bilhete (SSE)", description = "Envia \"waiting\" com a posição atual e depois " +
+            "\"promoted\" (inscrição feita) ou \"closed\" (o evento deixou de aceitar inscrições), terminando a ligação")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Ligação aberta"),
+        @ApiResponse(responseCode = "404", description = "Bilhete não encontrado")
+    })
+    public ResponseEntity<SseEmitter> streamWaitlistTicket(@PathVariable Long id, @PathVariable Long ticket) {
+        log.info("GET /api/events/{}/waitlist/{}/stream", id, ticket);
+        return ResponseEntity.ok(waitlistService.subscribe(id, ticket));
+    }
+    
+    /**
+     * Retira um pedido da fila de espera
+     */
+    @DeleteMapping("/{id}/waitlist/{ticket}")
+    @Operation(summary = "Sair da fila de espera", description = "Remove um pedido ainda não promovido")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Pedido removido"),
+        @ApiResponse(responseCode = "404", description = "Bilhete não encontrado"),
+        @ApiResponse(responseCode = "422", description = "Pedido já promovido a inscrição")
+    })
+    public ResponseEntity<Void> leaveWaitlist(@PathVariable Long id, @PathVariable Long ticket) {
+        log.info("DELETE /api/events/{}/waitlist/{}", id, ticket);
+        waitlistService.leave(id, ticket);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Paginação por cursor quando pedida explicitamente ou quando é enviado um cursor
+     */
+    private boolean isCursorMode(String pagination, String cursor) {
+        return "cursor".equalsIgnoreCase(pagination) || cursor != null;
+    }
+    
+    private void writeUpcomingEvents(OutputStream out, boolean asArray) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            if (asArray) {
+                generator.writeStartArray();
+            }
+            int[] written = {0};
+            eventService.streamUpcomingEvents(card -> {
+                try {
+                    generator.writeObject(card);
+                    if (!asArray) {
+                        generator.writeRaw('\n');
+                    }
+                    if (++written[0] % STREAM_FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            if (asArray) {
+                generator.writeEndArray();
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+    
+    /**
+     * GET condicional: com If-None-Match ou If-Modified-Since consulta apenas a versão
+     * atual e responde 304 se coincidir; caso contrário carrega o corpo e devolve-o com ETag.
+     * 
+     * O formato (JSON, CBOR, Smile) é escolhido aqui a partir do Accept e fixado no
+     * Content-Type, para que o ETag corresponda sempre aos bytes enviados.
+     */
+    private <T> ResponseEntity<T> conditionalGet(HttpHeaders headers, Supplier<EventVersion> currentVersion,
+                                                 Supplier<T> loader, Function<T, EventVersion> versionOf) {
+        MediaType representation = BinaryContentConfig.representation(headers);
+        if (!headers.getIfNoneMatch().isEmpty() || headers.getIfModifiedSince() >= 0) {
+            EventVersion version = EventVersions.withMediaType(currentVersion.get(), representation);
+            if (isNotModified(headers, version)) {
+                return withVersion(ResponseEntity.status(HttpStatus.NOT_MODIFIED), version).build();
+            }
+        }
+        T body = loader.get();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (representation != null) {
+            builder.contentType(representation);
+        }
+        return withVersion(builder, EventVersions.withMediaType(versionOf.apply(body), representation)).body(body);
+    }
+    
+    /**
+     * GET condicional de uma listagem com campos selecionados: a versão atual é a do
+     * card completo combinada com a seleção, para que cada representação tenha o seu ETag
+     */
+    private ResponseEntity<Page<EventSparseCard>> sparseGet(HttpHeaders headers, EventFieldSet fields,
+                                                            Supplier<EventVersion> currentVersion,
+                                                            Supplier<Page<EventSparseCard>> loader) {
+        return conditionalGet(headers,
+                () -> EventVersions.withFields(currentVersion.get(), fields),
+                loader,
+                page -> EventVersions.ofSparseCards(page, fields));
+    }
+    
+    /**
+     * If-None-Match tem precedência; If-Modified-Since só se aplica a versões com data
+     */
+    private boolean isNotModified(HttpHeaders headers, EventVersion version) {
+        List<String> ifNoneMatch = headers.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            return ifNoneMatch.stream()
+                    .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                    .anyMatch(tag -> tag.equals("*") || tag.equals(version.getEtag()));
+        }
+        if (version.getLastModified() == null) {
+            return false;
+        }
+        // As datas HTTP têm precisão de segundos
+        long lastModified = lastModifiedOf(version).toEpochSecond();
+        return lastModified <= headers.getIfModifiedSince() / 1000;
+    }
+    
+    private ResponseEntity.BodyBuilder withVersion(ResponseEntity.BodyBuilder builder, EventVersion version) {
+        builder.eTag(version.getEtag());
+        if (version.getLastModified() != null) {
+            builder.lastModified(lastModifiedOf(version));
+        }
+        return builder;
+    }
+    
+    private ZonedDateTime lastModifiedOf(EventVersion version) {
+        return version.getLastModified().atZone(ZoneId.systemDefault());
     }
 }
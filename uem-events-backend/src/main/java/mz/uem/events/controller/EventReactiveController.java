@@ -0,0 +1,99 @@
+package mz.uem.events.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.dto.EventCardDTO;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.service.EventReactiveService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Leituras públicas de eventos pela API reativa (R2DBC).
+ * 
+ * Mesmos parâmetros e respostas que as listagens por offset do EventController;
+ * a thread do pedido é libertada enquanto a base de dados responde. Escritas,
+ * cursores e pedidos condicionais continuam apenas em /api/events.
+ */
+@RestController
+@RequestMapping("/api/reactive/events")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Events (reativo)", description = "Leituras de eventos sem bloquear threads")
+@CrossOrigin(origins = "*")
+public class EventReactiveController {
+    
+    private final EventReactiveService reactiveService;
+    
+    /**
+     * Lista todos os eventos com paginação
+     */
+    @GetMapping
+    @Operation(summary = "Listar todos os eventos", description = "Mesmo resultado de GET /api/events (modo offset)")
+    public Mono<Page<EventCardDTO>> getAllEvents(
+            @Parameter(description = "Número da página (começa em 0)") 
+            @RequestParam(defaultValue = "0") int page,
+            
+            @Parameter(description = "Tamanho da página") 
+            @RequestParam(defaultValue = "10") int size,
+            
+            @Parameter(description = "Campo para ordenação") 
+            @RequestParam(defaultValue = "eventDate") String sortBy,
+            
+            @Parameter(description = "Direção da ordenação (ASC ou DESC)") 
+            @RequestParam(defaultValue = "ASC") String sortDirection) {
+        
+        log.info("GET /api/reactive/events - page: {}, size: {}", page, size);
+        
+        Sort sort = sortDirection.equalsIgnoreCase("DESC") 
+                ? Sort.by(sortBy).descending() 
+                : Sort.by(sortBy).ascending();
+        return reactiveService.getAllEvents(PageRequest.of(page, size, sort));
+    }
+    
+    /**
+     * Filtra eventos por categoria
+     */
+    @GetMapping("/category/{category}")
+    @Operation(summary = "Filtrar por categoria", description = "Mesmo resultado de GET /api/events/category/{category}")
+    public Mono<Page<EventCardDTO>> getEventsByCategory(
+            @Parameter(description = "Categoria do evento") 
+            @PathVariable EventCategory category,
+            
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("GET /api/reactive/events/category/{}", category);
+        return reactiveService.getEventsByCategory(category, PageRequest.of(page, size, Sort.by("eventDate").ascending()));
+    }
+    
+    /**
+     * Busca eventos próximos
+     */
+    @GetMapping("/upcoming")
+    @Operation(summary = "Eventos próximos", description = "Mesmo resultado de GET /api/events/upcoming")
+    public Flux<EventCardDTO> getUpcomingEvents() {
+        log.info("GET /api/reactive/events/upcoming");
+        return reactiveService.getUpcomingEvents();
+    }
+    
+    /**
+     * Busca eventos com vagas disponíveis
+     */
+    @GetMapping("/available")
+    @Operation(summary = "Eventos com vagas", description = "Mesmo resultado de GET /api/events/available")
+    public Mono<Page<EventCardDTO>> getEventsWithAvailableCapacity(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("GET /api/reactive/events/available");
+        return reactiveService.getEventsWithAvailableCapacity(PageRequest.of(page, size, Sort.by("eventDate").ascending()));
+    }
+}
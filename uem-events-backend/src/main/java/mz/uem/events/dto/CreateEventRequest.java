@@ -50,7 +50,10 @@ public class CreateEventRequest {
     @Size(max = 500, message = "URL da imagem muito longa")
     private String imageUrl;
     
-    private List<String> tags;
+    /**
+     * Cada tag cabe na coluna event_tags.tag (50 caracteres)
+     */
+    private List<@Size(max = 50, message = "Tag deve ter no máximo 50 caracteres") String> tags;
     
     private EventStatus status;
 }
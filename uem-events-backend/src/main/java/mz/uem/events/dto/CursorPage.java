@@ -0,0 +1,26 @@
+package mz.uem.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página obtida por cursor (keyset), sem contagem total de elementos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+    private List<T> content;
+    private Integer size;
+    private Boolean hasNext;
+    
+    /**
+     * Token opaco para pedir a página seguinte (null na última página)
+     */
+    private String nextCursor;
+}
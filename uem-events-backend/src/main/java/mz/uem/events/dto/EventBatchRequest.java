@@ -0,0 +1,21 @@
+package mz.uem.events.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Pedido de leitura de vários eventos (POST /api/events/batch)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventBatchRequest {
+    
+    @NotEmpty(message = "Indique pelo menos um ID")
+    private List<@NotNull(message = "IDs não podem ser nulos") Long> ids;
+}
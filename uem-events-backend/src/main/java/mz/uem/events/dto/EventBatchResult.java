@@ -0,0 +1,35 @@
+package mz.uem.events.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de uma leitura em lote: um item por ID pedido, pela ordem do pedido
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventBatchResult {
+    private Integer requested;
+    private Integer found;
+    private List<Item> items;
+    
+    /**
+     * Evento pedido; quando não existe, found é false e event não é incluído
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+        private Long id;
+        private Boolean found;
+        private EventDTO event;
+    }
+}
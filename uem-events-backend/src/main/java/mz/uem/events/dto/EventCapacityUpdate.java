@@ -0,0 +1,60 @@
+package mz.uem.events.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import mz.uem.events.entity.EventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Atualização de vagas e status de um evento enviada pelo feed SSE (/api/events/stream)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventCapacityUpdate {
+    
+    public enum Change {
+        UPDATED,
+        DELETED
+    }
+    
+    private Long eventId;
+    private Change change;
+    private EventStatus status;
+    private String statusDisplayName;
+    private Integer maxCapacity;
+    private Integer currentRegistrations;
+    private Integer availableCapacity;
+    private Boolean isFull;
+    private LocalDateTime updatedAt;
+    
+    /**
+     * Atualização de um evento removido
+     */
+    public static EventCapacityUpdate deleted(Long eventId) {
+        return EventCapacityUpdate.builder().eventId(eventId).change(Change.DELETED).build();
+    }
+    
+    /**
+     * Atualização a partir do estado do evento depois da alteração
+     */
+    public static EventCapacityUpdate of(EventDTO event) {
+        return EventCapacityUpdate.builder()
+                .eventId(event.getId())
+                .change(Change.UPDATED)
+                .status(event.getStatus())
+                .statusDisplayName(event.getStatusDisplayName())
+                .maxCapacity(event.getMaxCapacity())
+                .currentRegistrations(event.getCurrentRegistrations())
+                .availableCapacity(event.getAvailableCapacity())
+                .isFull(event.getIsFull())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package mz.uem.events.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,4 +33,10 @@ public class EventCardDTO {
     private List<String> tags;
     private Integer availableCapacity;
     private Boolean isFull;
+    
+    /**
+     * Usado apenas no cálculo do ETag das páginas; não é serializado
+     */
+    @JsonIgnore
+    private LocalDateTime updatedAt;
 }
@@ -0,0 +1,49 @@
+package mz.uem.events.dto;
+
+import lombok.Value;
+import mz.uem.events.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição de paginação por keyset: último (eventDate, id) devolvido
+ */
+@Value
+public class EventCursor {
+    
+    /**
+     * Posição anterior a qualquer evento, usada na primeira página
+     */
+    public static final EventCursor START = new EventCursor(LocalDateTime.of(1900, 1, 1, 0, 0), 0L);
+    
+    private static final char SEPARATOR = '|';
+    
+    LocalDateTime eventDate;
+    Long id;
+    
+    /**
+     * Decodifica um token; null ou vazio representa a primeira página
+     */
+    public static EventCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            return new EventCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+    
+    public String encode() {
+        String value = eventDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,84 @@
+package mz.uem.events.dto;
+
+import lombok.Value;
+import mz.uem.events.exception.BusinessException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Campos pedidos numa listagem (fields=) e tamanho do excerto da descrição (excerpt=).
+ * 
+ * Os nomes são os do EventCardDTO; o id é sempre incluído. Os campos ficam pela
+ * ordem do card, independentemente da ordem do pedido.
+ */
+@Value
+public class EventFieldSet {
+    
+    public static final List<String> CARD_FIELDS = List.of(
+            "id", "title", "description", "eventDate", "location", "organizer",
+            "category", "categoryDisplayName", "status", "statusDisplayName",
+            "imageUrl", "tags", "availableCapacity", "isFull");
+    
+    public static final int MAX_EXCERPT = 2000;
+    
+    Set<String> fields;
+    
+    /**
+     * Número máximo de caracteres da descrição (null = descrição completa)
+     */
+    Integer excerpt;
+    
+    /**
+     * Interpreta os parâmetros do pedido; null quando nenhum foi indicado (card completo)
+     */
+    public static EventFieldSet parse(String fields, Integer excerpt) {
+        boolean allFields = fields == null || fields.isBlank();
+        if (allFields && excerpt == null) {
+            return null;
+        }
+        if (excerpt != null && (excerpt < 1 || excerpt > MAX_EXCERPT)) {
+            throw new BusinessException("excerpt deve estar entre 1 e " + MAX_EXCERPT);
+        }
+        if (allFields) {
+            return new EventFieldSet(new LinkedHashSet<>(CARD_FIELDS), excerpt);
+        }
+        
+        Set<String> requested = new LinkedHashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (String field : Arrays.asList(fields.split(","))) {
+            String name = field.trim();
+            if (CARD_FIELDS.contains(name)) {
+                requested.add(name);
+            } else if (!name.isEmpty()) {
+                unknown.add(name);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new BusinessException("Campos desconhecidos em fields: " + String.join(", ", unknown)
+                    + ". Disponíveis: " + String.join(", ", CARD_FIELDS));
+        }
+        
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String name : CARD_FIELDS) {
+            if (name.equals("id") || requested.contains(name)) {
+                ordered.add(name);
+            }
+        }
+        return new EventFieldSet(ordered, excerpt);
+    }
+    
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+    
+    /**
+     * Identificação estável da seleção (chave de cache e ETag)
+     */
+    public String signature() {
+        return String.join(",", fields) + (excerpt != null ? ";excerpt=" + excerpt : "");
+    }
+}
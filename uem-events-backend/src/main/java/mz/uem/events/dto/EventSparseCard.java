@@ -0,0 +1,49 @@
+package mz.uem.events.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Card de evento apenas com os campos pedidos em fields= (serializado como um objeto plano)
+ */
+@AllArgsConstructor
+public class EventSparseCard {
+    
+    private final Long eventId;
+    private final LocalDateTime updatedAt;
+    private final Integer availableCapacity;
+    private final Map<String, Object> values;
+    
+    /**
+     * Usado na cache e no ETag; não é serializado
+     */
+    @JsonIgnore
+    public Long getEventId() {
+        return eventId;
+    }
+    
+    /**
+     * Usado apenas no cálculo do ETag das páginas; não é serializado
+     */
+    @JsonIgnore
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    /**
+     * Usado apenas no cálculo do ETag das páginas; não é serializado
+     */
+    @JsonIgnore
+    public Integer getAvailableCapacity() {
+        return availableCapacity;
+    }
+    
+    @JsonAnyGetter
+    public Map<String, Object> getValues() {
+        return values;
+    }
+}
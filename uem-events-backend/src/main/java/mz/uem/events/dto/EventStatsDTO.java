@@ -0,0 +1,42 @@
+package mz.uem.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Estatísticas agregadas dos eventos (painel de administração)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventStatsDTO {
+    private Long totalEvents;
+    private Long totalCapacity;
+    private Long totalRegistrations;
+    
+    /**
+     * Inscrições sobre capacidade total, em percentagem
+     */
+    private Double occupancyPercentage;
+    
+    private Map<EventCategory, Long> byCategory;
+    private Map<EventStatus, Long> byStatus;
+    
+    /**
+     * Número de eventos por faixa de ocupação: 0%, 1-25%, 26-50%, 51-75%, 76-99%, 100%
+     */
+    private Map<String, Long> occupancyDistribution;
+    
+    /**
+     * Última reconciliação com a base de dados
+     */
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,18 @@
+package mz.uem.events.dto;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validadores HTTP de um recurso: ETag forte e, quando aplicável, data de modificação
+ */
+@Value
+public class EventVersion {
+    String etag;
+    
+    /**
+     * Null nas páginas: remoções não alteram a data máxima, por isso só o ETag é fiável
+     */
+    LocalDateTime lastModified;
+}
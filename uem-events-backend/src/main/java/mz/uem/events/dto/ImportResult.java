@@ -0,0 +1,39 @@
+package mz.uem.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação em lote de eventos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportResult {
+    private Long received;
+    private Long imported;
+    private Long rejected;
+    private Long durationMillis;
+    
+    /**
+     * Erros por linha (limitados aos primeiros; ver errorsTruncated)
+     */
+    private List<RowError> errors;
+    private Boolean errorsTruncated;
+    
+    /**
+     * Linha rejeitada do ficheiro (a contar do cabeçalho, no CSV) e os seus erros
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Long line;
+        private List<String> messages;
+    }
+}
@@ -0,0 +1,21 @@
+package mz.uem.events.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Corpo opcional de POST /api/events/{id}/register
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationRequest {
+    
+    /**
+     * Identificação do participante (email, número de estudante); uma inscrição por evento
+     */
+    @Size(max = 200, message = "Participante deve ter no máximo 200 caracteres")
+    private String attendee;
+}
@@ -0,0 +1,35 @@
+package mz.uem.events.dto;
+
+import lombok.Value;
+
+/**
+ * Resultado de uma inscrição: o estado do evento, ou o bilhete da fila de espera
+ * quando o evento estava lotado
+ */
+@Value
+public class RegistrationResult {
+    EventDTO event;
+    
+    /**
+     * Bilhete da fila de espera (null quando a inscrição foi aceite)
+     */
+    WaitlistTicket waitlist;
+    
+    /**
+     * true quando a chave de idempotência ou o participante já tinham inscrição
+     * ou lugar na fila (nada foi alterado)
+     */
+    boolean replayed;
+    
+    public static RegistrationResult registered(EventDTO event) {
+        return new RegistrationResult(event, null, false);
+    }
+    
+    public static RegistrationResult replayed(EventDTO event) {
+        return new RegistrationResult(event, null, true);
+    }
+    
+    public static RegistrationResult waitlisted(WaitlistTicket ticket, boolean replayed) {
+        return new RegistrationResult(null, ticket, replayed);
+    }
+}
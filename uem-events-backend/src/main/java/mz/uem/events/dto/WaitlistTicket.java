@@ -0,0 +1,34 @@
+package mz.uem.events.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import mz.uem.events.entity.WaitlistStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bilhete da fila de espera de um evento lotado
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WaitlistTicket {
+    private Long ticket;
+    private Long eventId;
+    private String attendee;
+    private WaitlistStatus status;
+    private String statusDisplayName;
+    
+    /**
+     * Posição na fila (1 = próximo a ser promovido); só enquanto em espera
+     */
+    private Long position;
+    
+    private LocalDateTime createdAt;
+    private LocalDateTime resolvedAt;
+}
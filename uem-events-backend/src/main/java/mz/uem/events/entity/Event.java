@@ -3,6 +3,9 @@ package mz.uem.events.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,9 +16,26 @@ import java.util.List;
 
 /**
  * Entidade Event - Representa um evento da UEM com informações expandidas
+ * 
+ * Usa @DynamicUpdate para que atualizações da entidade escrevam apenas as
+ * colunas alteradas e não sobrescrevam currentRegistrations, que é mantido
+ * por UPDATEs atómicos no repositório.
+ * 
+ * Os eventos e as suas tags ficam na cache de segundo nível (READ_WRITE): as
+ * escritas pelo Hibernate atualizam ou invalidam as entradas (ver
+ * SecondLevelCacheConfig). Os UPDATEs de contadores e de status correm em SQL
+ * direto, que o Hibernate não vê; EventCounterRepositoryImpl remove da cache
+ * a entrada de cada evento alterado e a região de consultas.
  */
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+    @Index(name = "idx_events_date_id", columnList = "event_date, id"),
+    @Index(name = "idx_events_category_date_id", columnList = "category, event_date, id"),
+    @Index(name = "idx_events_status_date_id", columnList = "status, event_date, id")
+})
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Event.CACHE_REGION)
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
@@ -23,8 +43,20 @@ import java.util.List;
 @Builder
 public class Event {
     
+    /**
+     * Regiões da cache de segundo nível: entidades, tags e resultados de consultas
+     */
+    public static final String CACHE_REGION = "events";
+    public static final String TAGS_CACHE_REGION = "events.tags";
+    public static final String QUERY_CACHE_REGION = "events.queries";
+    
+    /**
+     * Sequência com alocação em blocos de 50 (otimizador pooled): o Hibernate
+     * atribui IDs sem ir à base de dados a cada insert e pode agrupá-los em lote
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Título é obrigatório")
@@ -79,6 +111,7 @@ public class Event {
     @ElementCollection
     @CollectionTable(name = "event_tags", joinColumns = @JoinColumn(name = "event_id"))
     @Column(name = "tag", length = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Event.TAGS_CACHE_REGION)
     @Builder.Default
     private List<String> tags = new ArrayList<>();
     
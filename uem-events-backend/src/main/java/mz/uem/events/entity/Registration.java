@@ -0,0 +1,50 @@
+package mz.uem.events.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inscrição de um participante num evento
+ * 
+ * As restrições de unicidade por (evento, participante) e (evento, chave de
+ * idempotência) fazem do INSERT a verificação de duplicados: um pedido repetido
+ * falha no índice, sem SELECT prévio e sem corrida entre pedidos concorrentes.
+ * event_id não tem chave estrangeira para que cada INSERT não bloqueie a linha
+ * do evento; as inscrições são apagadas com o evento (EventService.deleteEvent).
+ */
+@Entity
+@Table(name = "registrations", uniqueConstraints = {
+    @UniqueConstraint(name = Registration.UK_EVENT_ATTENDEE, columnNames = {"event_id", "attendee"}),
+    @UniqueConstraint(name = Registration.UK_EVENT_IDEMPOTENCY_KEY, columnNames = {"event_id", "idempotency_key"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Registration {
+    
+    public static final String UK_EVENT_ATTENDEE = "uk_registrations_event_attendee";
+    public static final String UK_EVENT_IDEMPOTENCY_KEY = "uk_registrations_event_key";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "registrations_seq")
+    @SequenceGenerator(name = "registrations_seq", sequenceName = "registrations_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+    
+    /**
+     * Identificação do participante (email, número de estudante); null em inscrições anónimas
+     */
+    @Column(length = 200)
+    private String attendee;
+    
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,30 @@
+package mz.uem.events.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Última entrada do jornal de inscrições já aplicada à base de dados, por instância.
+ * É gravada na mesma transação que os incrementos, para que a reprodução do
+ * jornal após um reinício não conte a mesma inscrição duas vezes.
+ */
+@Entity
+@Table(name = "registration_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegistrationCheckpoint {
+    
+    @Id
+    @Column(length = 100)
+    private String nodeId;
+    
+    @Column(nullable = false)
+    private Long lastSequence;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,57 @@
+package mz.uem.events.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pedido de inscrição em espera num evento lotado
+ * 
+ * A ordem da fila é (createdAt, id). As entradas promovidas ou encerradas ficam
+ * com o estado final, para que o cliente consulte o resultado pelo bilhete; as
+ * restrições de unicidade são as mesmas das inscrições, pelo que uma repetição
+ * devolve a entrada existente.
+ */
+@Entity
+@Table(name = "waitlist_entries", uniqueConstraints = {
+    @UniqueConstraint(name = WaitlistEntry.UK_EVENT_ATTENDEE, columnNames = {"event_id", "attendee"}),
+    @UniqueConstraint(name = WaitlistEntry.UK_EVENT_IDEMPOTENCY_KEY, columnNames = {"event_id", "idempotency_key"})
+}, indexes = {
+    @Index(name = "idx_waitlist_event_status_created", columnList = "event_id, status, created_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistEntry {
+    
+    public static final String UK_EVENT_ATTENDEE = "uk_waitlist_event_attendee";
+    public static final String UK_EVENT_IDEMPOTENCY_KEY = "uk_waitlist_event_key";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_seq")
+    @SequenceGenerator(name = "waitlist_seq", sequenceName = "waitlist_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+    
+    @Column(length = 200)
+    private String attendee;
+    
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WaitlistStatus status;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    /**
+     * Momento da promoção ou do encerramento
+     */
+    private LocalDateTime resolvedAt;
+}
@@ -0,0 +1,20 @@
+package mz.uem.events.entity;
+
+/**
+ * Estado de uma entrada na fila de espera
+ */
+public enum WaitlistStatus {
+    WAITING("Em espera"),
+    PROMOTED("Inscrito"),
+    CLOSED("Encerrada");
+    
+    private final String displayName;
+    
+    WaitlistStatus(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+}
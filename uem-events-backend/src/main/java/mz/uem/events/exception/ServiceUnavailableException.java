@@ -0,0 +1,11 @@
+package mz.uem.events.exception;
+
+/**
+ * Exception para recursos temporariamente indisponíveis
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package mz.uem.events.exception;
+
+/**
+ * Exception para pedidos recusados pelo controlo de admissão (429)
+ * 
+ * Sem stack trace: é lançada em rajadas de pedidos recusados e só transporta a resposta.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
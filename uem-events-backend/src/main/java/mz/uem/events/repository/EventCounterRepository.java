@@ -0,0 +1,32 @@
+package mz.uem.events.repository;
+
+import mz.uem.events.entity.EventStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * UPDATEs atómicos de contadores e de status de eventos, executados em SQL direto
+ * (ver EventCounterRepositoryImpl)
+ */
+public interface EventCounterRepository {
+    
+    /**
+     * Incrementa atomicamente as inscrições de um evento próximo com vagas.
+     * Verificação de capacidade e incremento acontecem na mesma instrução UPDATE,
+     * sem leitura prévia da entidade; retorna 0 se nenhuma linha foi alterada.
+     */
+    int incrementRegistrations(Long id, LocalDateTime now);
+    
+    /**
+     * Soma um lote de inscrições já admitidas ao contador do evento
+     */
+    int addRegistrations(Long id, int count, LocalDateTime now);
+    
+    /**
+     * Altera em lote o status dos eventos indicados que ainda estão num dos status
+     * de origem e cuja data já passou de dueBy; retorna o número de eventos alterados
+     */
+    int transitionStatus(Collection<Long> ids, Collection<EventStatus> from, EventStatus to,
+                         LocalDateTime dueBy, LocalDateTime now);
+}
@@ -0,0 +1,95 @@
+package mz.uem.events.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventStatus;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Os UPDATEs de EventCounterRepository em SQL direto, na ligação da transação JPA.
+ * 
+ * Um UPDATE em massa em JPQL faz o Hibernate esvaziar as regiões events e events.tags
+ * inteiras e invalidar as consultas em cache, a cada inscrição. Aqui o Hibernate não
+ * vê a instrução: remove-se da cache apenas a entrada de cada evento alterado, mais a
+ * região de consultas (cujos resultados guardam o estado dos eventos). A remoção é
+ * feita logo a seguir ao UPDATE, para que a própria transação leia o valor novo, e de
+ * novo no fim da transação, para descartar o que outra transação tenha carregado
+ * entretanto (ou o valor desta, se for revertida).
+ * 
+ * Como no @Modifying(flushAutomatically, clearAutomatically) que substituem, as
+ * alterações pendentes são escritas antes do UPDATE e o contexto de persistência é
+ * limpo depois, para que findById devolva a linha atualizada.
+ */
+public class EventCounterRepositoryImpl implements EventCounterRepository {
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final Cache cache;
+    
+    public EventCounterRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager,
+                                      EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+    
+    @Override
+    public int incrementRegistrations(Long id, LocalDateTime now) {
+        return update(List.of(id), "UPDATE events SET current_registrations = current_registrations + 1, " +
+                "updated_at = :now WHERE id = :id AND status = 'UPCOMING' AND current_registrations < max_capacity",
+                new MapSqlParameterSource("id", id).addValue("now", now));
+    }
+    
+    @Override
+    public int addRegistrations(Long id, int count, LocalDateTime now) {
+        return update(List.of(id), "UPDATE events SET current_registrations = current_registrations + :count, " +
+                "updated_at = :now WHERE id = :id",
+                new MapSqlParameterSource("id", id).addValue("count", count).addValue("now", now));
+    }
+    
+    @Override
+    public int transitionStatus(Collection<Long> ids, Collection<EventStatus> from, EventStatus to,
+                                LocalDateTime dueBy, LocalDateTime now) {
+        return update(ids, "UPDATE events SET status = :to, updated_at = :now " +
+                "WHERE id IN (:ids) AND status IN (:from) AND event_date <= :dueBy",
+                new MapSqlParameterSource("ids", ids)
+                        .addValue("from", from.stream().map(EventStatus::name).toList())
+                        .addValue("to", to.name())
+                        .addValue("dueBy", dueBy)
+                        .addValue("now", now));
+    }
+    
+    private int update(Collection<Long> ids, String sql, MapSqlParameterSource parameters) {
+        entityManager.flush();
+        int updated = jdbcTemplate.update(sql, parameters);
+        entityManager.clear();
+        if (updated > 0) {
+            List<Long> evicted = List.copyOf(ids);
+            evict(evicted);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        evict(evicted);
+                    }
+                });
+            }
+        }
+        return updated;
+    }
+    
+    private void evict(Collection<Long> ids) {
+        ids.forEach(id -> cache.evictEntityData(Event.class, id));
+        cache.evictQueryRegion(Event.QUERY_CACHE_REGION);
+    }
+}
@@ -0,0 +1,184 @@
+package mz.uem.events.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.exception.BusinessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Listagens de eventos que leem apenas as colunas pedidas (fields=).
+ * 
+ * Cada linha é devolvida como um mapa atributo → valor. Com excerpt, a descrição
+ * é cortada na própria consulta (SUBSTRING), pelo que o texto completo não sai
+ * da base de dados.
+ */
+@Repository
+public class EventProjectionRepository {
+    
+    /**
+     * Atributo da descrição nas linhas devolvidas (completa ou cortada)
+     */
+    public static final String DESCRIPTION = "description";
+    
+    private static final Set<String> COLUMNS = Set.of(
+            "id", "title", DESCRIPTION, "eventDate", "location", "organizer", "category",
+            "maxCapacity", "currentRegistrations", "status", "imageUrl", "createdAt", "updatedAt");
+    
+    // Propriedades ordenáveis (as mesmas da API reativa)
+    private static final Set<String> SORTABLE = Set.of(
+            "id", "title", "eventDate", "location", "organizer", "category",
+            "status", "maxCapacity", "createdAt", "updatedAt");
+    
+    private final EntityManager entityManager;
+    
+    public EventProjectionRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+    
+    /**
+     * Listagem filtrada: todos, por categoria, por status ou com vagas
+     */
+    public record Listing(String kind, EventCategory category, EventStatus status) {
+        
+        public static Listing all() {
+            return new Listing("all", null, null);
+        }
+        
+        public static Listing byCategory(EventCategory category) {
+            return new Listing("category", category, null);
+        }
+        
+        public static Listing byStatus(EventStatus status) {
+            return new Listing("status", null, status);
+        }
+        
+        public static Listing available() {
+            return new Listing("available", null, null);
+        }
+        
+        /**
+         * Parâmetros da listagem, para a chave de cache
+         */
+        public String parameters() {
+            return category != null ? category.name() : status != null ? status.name() : "";
+        }
+        
+        Predicate toPredicate(CriteriaBuilder cb, Root<Event> event) {
+            return switch (kind) {
+                case "category" -> cb.equal(event.get("category"), category);
+                case "status" -> cb.equal(event.get("status"), status);
+                case "available" -> cb.and(
+                        cb.lessThan(event.get("currentRegistrations"), event.<Integer>get("maxCapacity")),
+                        cb.equal(event.get("status"), EventStatus.UPCOMING));
+                default -> cb.conjunction();
+            };
+        }
+    }
+    
+    /**
+     * Página por offset com as colunas indicadas; a contagem só é feita quando necessária
+     */
+    public Page<Map<String, Object>> findPage(Listing listing, Set<String> columns, Integer excerpt, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> event = query.from(Event.class);
+        query.multiselect(selections(cb, event, columns, excerpt))
+                .where(listing.toPredicate(cb, event))
+                .orderBy(orders(cb, event, pageable.getSort()));
+        
+        List<Map<String, Object>> rows = toRows(entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList());
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(listing));
+    }
+    
+    /**
+     * Página seguinte por keyset (eventDate, id) com as colunas indicadas
+     */
+    public List<Map<String, Object>> findPageAfter(Listing listing, Set<String> columns, Integer excerpt,
+                                                   LocalDateTime afterDate, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> event = query.from(Event.class);
+        // Mesma forma das consultas keyset do EventRepository: intervalo no índice (event_date, id)
+        Predicate after = cb.and(
+                cb.greaterThanOrEqualTo(event.get("eventDate"), afterDate),
+                cb.or(cb.greaterThan(event.get("eventDate"), afterDate), cb.greaterThan(event.get("id"), afterId)));
+        query.multiselect(selections(cb, event, columns, excerpt))
+                .where(listing.toPredicate(cb, event), after)
+                .orderBy(cb.asc(event.get("eventDate")), cb.asc(event.get("id")));
+        
+        return toRows(entityManager.createQuery(query).setMaxResults(limit).getResultList());
+    }
+    
+    private long count(Listing listing) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Event> event = query.from(Event.class);
+        query.select(cb.count(event)).where(listing.toPredicate(cb, event));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+    
+    private List<Selection<?>> selections(CriteriaBuilder cb, Root<Event> event, Set<String> columns, Integer excerpt) {
+        List<Selection<?>> selections = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            if (!COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Coluna desconhecida: " + column);
+            }
+            if (column.equals(DESCRIPTION) && excerpt != null) {
+                // Um carácter a mais indica se o texto foi cortado
+                selections.add(cb.substring(event.get(DESCRIPTION), 1, excerpt + 1).alias(DESCRIPTION));
+            } else {
+                selections.add(event.get(column).alias(column));
+            }
+        }
+        return selections;
+    }
+    
+    private List<Order> orders(CriteriaBuilder cb, Root<Event> event, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new BusinessException("Campo de ordenação inválido: " + order.getProperty());
+            }
+            orders.add(order.isAscending()
+                    ? cb.asc(event.get(order.getProperty()))
+                    : cb.desc(event.get(order.getProperty())));
+        }
+        return orders;
+    }
+    
+    private List<Map<String, Object>> toRows(List<Tuple> tuples) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new HashMap<>();
+            for (TupleElement<?> element : tuple.getElements()) {
+                row.put(element.getAlias(), tuple.get(element));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,153 @@
+package mz.uem.events.repository;
+
+import io.r2dbc.spi.Readable;
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Leituras de eventos pelo driver R2DBC (não bloqueante), para a API reativa.
+ * 
+ * Devolve entidades Event desligadas (não geridas pelo Hibernate), preenchidas
+ * com as colunas de events; as tags são lidas à parte com {@link #findTags}.
+ */
+@Repository
+public class EventReactiveRepository {
+    
+    private static final String COLUMNS = "id, title, description, event_date, location, organizer, category, " +
+            "max_capacity, current_registrations, status, image_url, created_at, updated_at";
+    
+    private static final String UPCOMING = "status = 'UPCOMING' AND event_date >= :now";
+    private static final String AVAILABLE = "current_registrations < max_capacity AND status = 'UPCOMING'";
+    
+    // Propriedades ordenáveis e respetivas colunas
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "eventDate", "event_date",
+            "location", "location",
+            "organizer", "organizer",
+            "category", "category",
+            "status", "status",
+            "maxCapacity", "max_capacity",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at");
+    
+    private final DatabaseClient client;
+    
+    public EventReactiveRepository(DatabaseClient reactiveDatabaseClient) {
+        this.client = reactiveDatabaseClient;
+    }
+    
+    /**
+     * Indica se a propriedade pode ser usada na ordenação
+     */
+    public static boolean isSortable(String property) {
+        return SORT_COLUMNS.containsKey(property);
+    }
+    
+    public Flux<Event> findAll(Sort sort, long offset, int limit) {
+        return select(null, sort, offset, limit).map(EventReactiveRepository::toEvent).all();
+    }
+    
+    public Mono<Long> count() {
+        return count(null).map(row -> row.get("total", Long.class)).one();
+    }
+    
+    public Flux<Event> findByCategory(EventCategory category, Sort sort, long offset, int limit) {
+        return select("category = :category", sort, offset, limit)
+                .bind("category", category.name())
+                .map(EventReactiveRepository::toEvent).all();
+    }
+    
+    public Mono<Long> countByCategory(EventCategory category) {
+        return count("category = :category")
+                .bind("category", category.name())
+                .map(row -> row.get("total", Long.class)).one();
+    }
+    
+    public Flux<Event> findWithAvailableCapacity(Sort sort, long offset, int limit) {
+        return select(AVAILABLE, sort, offset, limit).map(EventReactiveRepository::toEvent).all();
+    }
+    
+    public Mono<Long> countWithAvailableCapacity() {
+        return count(AVAILABLE).map(row -> row.get("total", Long.class)).one();
+    }
+    
+    /**
+     * Eventos próximos por ordem de data, lidos à medida que são consumidos
+     */
+    public Flux<Event> findUpcoming(LocalDateTime now) {
+        return client.sql("SELECT " + COLUMNS + " FROM events WHERE " + UPCOMING + " ORDER BY event_date ASC, id ASC")
+                .bind("now", now)
+                .map(EventReactiveRepository::toEvent)
+                .all();
+    }
+    
+    /**
+     * Tags dos eventos indicados, agrupadas por ID do evento
+     */
+    public Mono<Map<Long, List<String>>> findTags(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return client.sql("SELECT event_id, tag FROM event_tags WHERE event_id IN (:ids)")
+                .bind("ids", eventIds)
+                .map(row -> Map.entry(row.get("event_id", Long.class), row.get("tag", String.class)))
+                .all()
+                .collect(Collectors.groupingBy(Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+    }
+    
+    private DatabaseClient.GenericExecuteSpec select(String where, Sort sort, long offset, int limit) {
+        String sql = "SELECT " + COLUMNS + " FROM events" + (where != null ? " WHERE " + where : "")
+                + orderBy(sort) + " LIMIT :limit OFFSET :offset";
+        return client.sql(sql).bind("limit", limit).bind("offset", offset);
+    }
+    
+    private DatabaseClient.GenericExecuteSpec count(String where) {
+        return client.sql("SELECT COUNT(*) AS total FROM events" + (where != null ? " WHERE " + where : ""));
+    }
+    
+    /**
+     * ORDER BY da ordenação pedida, com o ID como desempate para uma ordem estável entre páginas
+     */
+    private static String orderBy(Sort sort) {
+        String order = sort.stream()
+                .map(o -> SORT_COLUMNS.get(o.getProperty()) + (o.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+        if (sort.getOrderFor("id") == null) {
+            order = order.isEmpty() ? "id ASC" : order + ", id ASC";
+        }
+        return " ORDER BY " + order;
+    }
+    
+    private static Event toEvent(Readable row) {
+        return Event.builder()
+                .id(row.get("id", Long.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .eventDate(row.get("event_date", LocalDateTime.class))
+                .location(row.get("location", String.class))
+                .organizer(row.get("organizer", String.class))
+                .category(EventCategory.valueOf(row.get("category", String.class)))
+                .maxCapacity(row.get("max_capacity", Integer.class))
+                .currentRegistrations(row.get("current_registrations", Integer.class))
+                .status(EventStatus.valueOf(row.get("status", String.class)))
+                .imageUrl(row.get("image_url", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -1,32 +1,85 @@
 package mz.uem.events.repository;
 
+import jakarta.persistence.QueryHint;
 import mz.uem.events.entity.Event;
 import mz.uem.events.entity.EventCategory;
 import mz.uem.events.entity.EventStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository para acesso aos dados de eventos
  */
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventCounterRepository {
     
     /**
-     * Busca eventos por categoria
+     * Dados mínimos para calcular a versão (ETag) de um evento sem carregar a entidade
      */
+    interface EventStamp {
+        Long getId();
+        LocalDateTime getUpdatedAt();
+        Integer getMaxCapacity();
+        Integer getCurrentRegistrations();
+    }
+    
+    /**
+     * Data e status de um evento, para agendar a próxima transição de status
+     */
+    interface EventSchedule {
+        Long getId();
+        LocalDateTime getEventDate();
+        EventStatus getStatus();
+    }
+    
+    /**
+     * Campos de um evento usados nas estatísticas agregadas
+     */
+    interface EventCounters {
+        Long getId();
+        EventCategory getCategory();
+        EventStatus getStatus();
+        Integer getMaxCapacity();
+        Integer getCurrentRegistrations();
+        LocalDateTime getUpdatedAt();
+    }
+    
+    /**
+     * Linha (evento, tag) devolvida pela carga de tags em lote
+     */
+    interface EventTagRow {
+        Long getEventId();
+        String getTag();
+    }
+    
+    /**
+     * Busca eventos por categoria (página e contagem na cache de consultas)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Event.QUERY_CACHE_REGION)
+    })
     Page<Event> findByCategory(EventCategory category, Pageable pageable);
     
     /**
-     * Busca eventos por status
+     * Busca eventos por status (página e contagem na cache de consultas)
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Event.QUERY_CACHE_REGION)
+    })
     Page<Event> findByStatus(EventStatus status, Pageable pageable);
     
     /**
@@ -46,11 +99,27 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     Page<Event> findByTag(@Param("tag") String tag, Pageable pageable);
     
     /**
-     * Busca eventos próximos (upcoming)
+     * Busca eventos próximos (upcoming); na cache de consultas, pelo que só há
+     * acertos se now for arredondado (ver EventService.getUpcomingEvents)
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Event.QUERY_CACHE_REGION)
+    })
     @Query("SELECT e FROM Event e WHERE e.status = 'UPCOMING' AND e.eventDate >= :now ORDER BY e.eventDate ASC")
     List<Event> findUpcomingEvents(@Param("now") LocalDateTime now);
     
+    /**
+     * Bloco seguinte de eventos próximos por keyset (eventDate, id), para transmitir o
+     * calendário em blocos, cada um na sua transação; o primeiro parte de (agora, 0)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT e FROM Event e WHERE e.status = 'UPCOMING' " +
+           "AND e.eventDate >= :afterDate AND (e.eventDate > :afterDate OR e.id > :afterId) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findUpcomingAfter(@Param("afterDate") LocalDateTime afterDate, @Param("afterId") Long afterId,
+                                  Limit limit);
+    
     /**
      * Busca eventos por organizador
      */
@@ -61,4 +130,96 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      */
     @Query("SELECT e FROM Event e WHERE e.currentRegistrations < e.maxCapacity AND e.status = 'UPCOMING'")
     Page<Event> findEventsWithAvailableCapacity(Pageable pageable);
+    
+    /**
+     * Eventos com os status indicados e data anterior a until (usa idx_events_status_date_id)
+     */
+    List<EventSchedule> findScheduleByStatusInAndEventDateBefore(Collection<EventStatus> statuses, LocalDateTime until);
+    
+    /**
+     * Carrega numa só consulta as tags de vários eventos
+     */
+    @Query("SELECT e.id AS eventId, t AS tag FROM Event e JOIN e.tags t WHERE e.id IN :ids")
+    List<EventTagRow> findTagsByEventIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Página seguinte por keyset (eventDate, id), sem COUNT nem OFFSET
+     * 
+     * O predicado começa por eventDate >= :afterDate para que o índice (event_date, id)
+     * seja percorrido a partir do cursor; com "eventDate > d OR (eventDate = d AND id > i)"
+     * o H2 e o PostgreSQL não o usam como intervalo e filtram as linhas uma a uma.
+     */
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :afterDate AND (e.eventDate > :afterDate OR e.id > :afterId) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findPageAfter(@Param("afterDate") LocalDateTime afterDate, @Param("afterId") Long afterId, Limit limit);
+    
+    /**
+     * Página seguinte por keyset de uma categoria
+     */
+    @Query("SELECT e FROM Event e WHERE e.category = :category " +
+           "AND e.eventDate >= :afterDate AND (e.eventDate > :afterDate OR e.id > :afterId) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findPageByCategoryAfter(@Param("category") EventCategory category,
+                                        @Param("afterDate") LocalDateTime afterDate,
+                                        @Param("afterId") Long afterId,
+                                        Limit limit);
+    
+    /**
+     * Página seguinte por keyset de um status
+     */
+    @Query("SELECT e FROM Event e WHERE e.status = :status " +
+           "AND e.eventDate >= :afterDate AND (e.eventDate > :afterDate OR e.id > :afterId) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findPageByStatusAfter(@Param("status") EventStatus status,
+                                      @Param("afterDate") LocalDateTime afterDate,
+                                      @Param("afterId") Long afterId,
+                                      Limit limit);
+    
+    /**
+     * Página seguinte por keyset dos eventos com vagas disponíveis
+     */
+    @Query("SELECT e FROM Event e WHERE e.currentRegistrations < e.maxCapacity AND e.status = 'UPCOMING' " +
+           "AND e.eventDate >= :afterDate AND (e.eventDate > :afterDate OR e.id > :afterId) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findPageWithAvailableCapacityAfter(@Param("afterDate") LocalDateTime afterDate,
+                                                   @Param("afterId") Long afterId,
+                                                   Limit limit);
+    
+    /**
+     * Eventos seguintes por ordem de ID (construção do índice de pesquisa)
+     */
+    List<Event> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    /**
+     * Contadores dos eventos seguintes por ordem de ID (reconciliação das estatísticas)
+     */
+    List<EventCounters> findCountersByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    /**
+     * Versão de um evento
+     */
+    Optional<EventStamp> findStampById(Long id);
+    
+    /**
+     * Versões de uma página de todos os eventos
+     */
+    Page<EventStamp> findStampsBy(Pageable pageable);
+    
+    /**
+     * Versões de uma página de eventos de uma categoria
+     */
+    Page<EventStamp> findStampsByCategory(EventCategory category, Pageable pageable);
+    
+    /**
+     * Versões de uma página de eventos de um status
+     */
+    Page<EventStamp> findStampsByStatus(EventStatus status, Pageable pageable);
+    
+    /**
+     * Versões de uma página de eventos com vagas disponíveis
+     */
+    @Query("SELECT e.id AS id, e.updatedAt AS updatedAt, e.maxCapacity AS maxCapacity, " +
+           "e.currentRegistrations AS currentRegistrations " +
+           "FROM Event e WHERE e.currentRegistrations < e.maxCapacity AND e.status = 'UPCOMING'")
+    Page<EventStamp> findStampsWithAvailableCapacity(Pageable pageable);
 }
@@ -0,0 +1,12 @@
+package mz.uem.events.repository;
+
+import mz.uem.events.entity.RegistrationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository para os checkpoints do jornal de inscrições
+ */
+@Repository
+public interface RegistrationCheckpointRepository extends JpaRepository<RegistrationCheckpoint, String> {
+}
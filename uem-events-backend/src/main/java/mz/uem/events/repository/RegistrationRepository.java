@@ -0,0 +1,32 @@
+package mz.uem.events.repository;
+
+import mz.uem.events.entity.Registration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository para as inscrições de participantes
+ */
+@Repository
+public interface RegistrationRepository extends JpaRepository<Registration, Long> {
+    
+    Optional<Registration> findByEventIdAndAttendee(Long eventId, String attendee);
+    
+    Optional<Registration> findByEventIdAndIdempotencyKey(Long eventId, String idempotencyKey);
+    
+    boolean existsByEventIdAndAttendee(Long eventId, String attendee);
+    
+    boolean existsByEventIdAndIdempotencyKey(Long eventId, String idempotencyKey);
+    
+    /**
+     * Remove as inscrições de um evento
+     */
+    @Modifying
+    @Query("DELETE FROM Registration r WHERE r.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
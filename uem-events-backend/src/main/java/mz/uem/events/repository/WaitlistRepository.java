@@ -0,0 +1,87 @@
+package mz.uem.events.repository;
+
+import mz.uem.events.entity.WaitlistEntry;
+import mz.uem.events.entity.WaitlistStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository para a fila de espera dos eventos lotados
+ */
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+    
+    /**
+     * Primeiras entradas da fila de um evento, por ordem de chegada
+     */
+    List<WaitlistEntry> findByEventIdAndStatusOrderByCreatedAtAscIdAsc(Long eventId, WaitlistStatus status, Limit limit);
+    
+    long countByEventIdAndStatus(Long eventId, WaitlistStatus status);
+    
+    Optional<WaitlistEntry> findByEventIdAndAttendee(Long eventId, String attendee);
+    
+    Optional<WaitlistEntry> findByEventIdAndIdempotencyKey(Long eventId, String idempotencyKey);
+    
+    /**
+     * Eventos com pedidos em espera (carregados no arranque)
+     */
+    @Query("SELECT DISTINCT w.eventId FROM WaitlistEntry w WHERE w.status = mz.uem.events.entity.WaitlistStatus.WAITING")
+    List<Long> findWaitingEventIds();
+    
+    /**
+     * Número de pedidos em espera à frente de uma entrada
+     */
+    @Query("SELECT COUNT(w) FROM WaitlistEntry w WHERE w.eventId = :eventId " +
+           "AND w.status = mz.uem.events.entity.WaitlistStatus.WAITING " +
+           "AND (w.createdAt < :createdAt OR (w.createdAt = :createdAt AND w.id < :id))")
+    long countAhead(@Param("eventId") Long eventId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id);
+    
+    /**
+     * Passa uma entrada em espera para outro estado; 0 se já tinha sido resolvida
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WaitlistEntry w SET w.status = :to, w.resolvedAt = :now " +
+           "WHERE w.id = :id AND w.status = mz.uem.events.entity.WaitlistStatus.WAITING")
+    int resolve(@Param("id") Long id, @Param("to") WaitlistStatus to, @Param("now") LocalDateTime now);
+    
+    /**
+     * Retira da fila uma entrada ainda em espera; 0 se já tinha sido resolvida
+     */
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w " +
+           "WHERE w.id = :id AND w.status = mz.uem.events.entity.WaitlistStatus.WAITING")
+    int deleteWaiting(@Param("id") Long id);
+    
+    /**
+     * Encerra a fila de um evento que deixou de aceitar inscrições
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WaitlistEntry w SET w.status = mz.uem.events.entity.WaitlistStatus.CLOSED, w.resolvedAt = :now " +
+           "WHERE w.eventId = :eventId AND w.status = mz.uem.events.entity.WaitlistStatus.WAITING")
+    int closeByEventId(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+    
+    /**
+     * Remove as entradas já resolvidas de um participante, para que possa voltar à fila
+     */
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.eventId = :eventId " +
+           "AND w.status <> mz.uem.events.entity.WaitlistStatus.WAITING " +
+           "AND (w.attendee = :attendee OR w.idempotencyKey = :idempotencyKey)")
+    int deleteResolved(@Param("eventId") Long eventId, @Param("attendee") String attendee,
+                       @Param("idempotencyKey") String idempotencyKey);
+    
+    /**
+     * Remove a fila de um evento
+     */
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
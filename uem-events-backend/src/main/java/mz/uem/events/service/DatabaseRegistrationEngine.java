@@ -0,0 +1,49 @@
+package mz.uem.events.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.exception.BusinessException;
+import mz.uem.events.exception.ResourceNotFoundException;
+import mz.uem.events.repository.EventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inscrições diretamente na base de dados (modo por omissão)
+ * 
+ * A reserva da vaga é feita num único UPDATE condicional, evitando
+ * perda de inscrições quando muitos pedidos concorrem pelo mesmo evento.
+ */
+@Service
+@ConditionalOnProperty(prefix = "uem.events.registration", name = "mode", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseRegistrationEngine implements RegistrationEngine {
+    
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    
+    @Override
+    @Transactional
+    public EventDTO register(Long eventId) {
+        int updated = eventRepository.incrementRegistrations(eventId, LocalDateTime.now());
+        
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", eventId));
+        
+        if (updated == 0) {
+            if (event.getStatus() != EventStatus.UPCOMING) {
+                throw new BusinessException("Apenas eventos próximos aceitam inscrições");
+            }
+            throw new IllegalStateException("Evento lotado - sem vagas disponíveis");
+        }
+        
+        return eventMapper.toDTO(event);
+    }
+}
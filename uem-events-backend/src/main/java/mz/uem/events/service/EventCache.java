@@ -0,0 +1,244 @@
+package mz.uem.events.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.config.EventCacheProperties;
+import mz.uem.events.dto.EventDTO;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache de leitura (read-through) em memória para detalhes e páginas de eventos.
+ *
+ * As entradas são invalidadas pelas notificações do EventService:
+ * <ul>
+ *   <li>CREATED, UPDATED, DELETED: o detalhe do evento e todas as páginas;</li>
+ *   <li>REGISTERED: o detalhe e apenas as páginas que contêm o evento
+ *       (e as páginas de eventos com vagas, se o evento ficou lotado).</li>
+ * </ul>
+ * Um carregamento que se cruze com uma invalidação não é guardado, para que
+ * uma leitura antiga não reponha dados já invalidados. O TTL limita o tempo
+ * máximo de vida de qualquer entrada.
+ */
+@Component
+@Slf4j
+public class EventCache {
+
+    /**
+     * Tipo de página das listagens de eventos com vagas
+     */
+    public static final String AVAILABLE = "available";
+
+    private final boolean enabled;
+    private final Cache<Long, EventDTO> events;
+    private final Cache<PageKey, CachedPage> pages;
+
+    // Páginas em cache que contêm cada evento
+    private final Map<Long, Set<PageKey>> pagesByEvent = new ConcurrentHashMap<>();
+
+    // Relógio de invalidações: cada evento guarda o instante da sua última invalidação
+    private final AtomicLong invalidationClock = new AtomicLong();
+    private final AtomicLong listInvalidation = new AtomicLong();
+    private final Cache<Long, Long> eventInvalidations;
+
+    public EventCache(EventCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.events = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEvents())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxPages())
+                .expireAfterWrite(properties.getTtl())
+                .removalListener((PageKey key, CachedPage page, RemovalCause cause) -> unindex(key, page))
+                .recordStats()
+                .build();
+        this.eventInvalidations = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, events, "events.detail");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "events.pages");
+        log.info("Cache de eventos {} (máx. {} eventos, {} páginas, TTL {})",
+                enabled ? "ativa" : "desativada", properties.getMaxEvents(), properties.getMaxPages(), properties.getTtl());
+    }
+
+    /**
+     * Devolve o detalhe do evento em cache ou carrega-o
+     */
+    public EventDTO getEvent(Long id, Supplier<EventDTO> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        EventDTO cached = events.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        long startedAt = invalidationClock.get();
+        EventDTO loaded = loader.get();
+        if (!invalidatedSince(id, startedAt)) {
+            events.put(id, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Detalhes de vários eventos: os que estão em cache e os restantes carregados de uma vez
+     * (loader recebe os IDs em falta e devolve os encontrados)
+     */
+    public Map<Long, EventDTO> getEvents(Collection<Long> ids, Function<Collection<Long>, Map<Long, EventDTO>> loader) {
+        if (!enabled) {
+            return loader.apply(ids);
+        }
+        Map<Long, EventDTO> result = new HashMap<>(events.getAllPresent(ids));
+        List<Long> missing = ids.stream().filter(id -> !result.containsKey(id)).toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+        long startedAt = invalidationClock.get();
+        Map<Long, EventDTO> loaded = loader.apply(missing);
+        loaded.forEach((id, event) -> {
+            if (!invalidatedSince(id, startedAt)) {
+                events.put(id, event);
+            }
+        });
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * Detalhe em cache, sem carregar (null se ausente)
+     */
+    public EventDTO peekEvent(Long id) {
+        return enabled ? events.getIfPresent(id) : null;
+    }
+
+    /**
+     * Página em cache, sem carregar (null se ausente)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T peekPage(PageKey key) {
+        CachedPage cached = enabled ? pages.getIfPresent(key) : null;
+        return cached == null ? null : (T) cached.getValue();
+    }
+
+    /**
+     * Devolve uma página em cache ou carrega-a; idsOf indica os eventos que a página contém
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getPage(PageKey key, Supplier<T> loader, Function<T, List<Long>> idsOf) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CachedPage cached = pages.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached.getValue();
+        }
+        long startedAt = invalidationClock.get();
+        long listsAt = listInvalidation.get();
+        T loaded = loader.get();
+        List<Long> ids = idsOf.apply(loaded);
+
+        if (listInvalidation.get() != listsAt || ids.stream().anyMatch(id -> invalidatedSince(id, startedAt))) {
+            return loaded;
+        }
+        for (Long id : ids) {
+            pagesByEvent.computeIfAbsent(id, ignored -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        pages.put(key, new CachedPage(loaded, ids));
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (!enabled) {
+            return;
+        }
+        if (change.getType() == EventChangedEvent.ChangeType.CREATED) {
+            // Um evento novo não tem detalhe em cache; só as listagens mudam
+            invalidateAllPages();
+            return;
+        }
+        Long id = change.getEventId();
+        markInvalidated(id);
+        events.invalidate(id);
+
+        if (change.getType() == EventChangedEvent.ChangeType.REGISTERED) {
+            Set<PageKey> keys = pagesByEvent.remove(id);
+            if (keys != null) {
+                pages.invalidateAll(keys);
+            }
+            EventDTO snapshot = change.getSnapshot();
+            if (snapshot != null && Boolean.TRUE.equals(snapshot.getIsFull())) {
+                pages.invalidateAll(pages.asMap().keySet().stream()
+                        .filter(key -> AVAILABLE.equals(key.getKind()))
+                        .toList());
+            }
+        } else {
+            invalidateAllPages();
+        }
+    }
+
+    /**
+     * Remove todas as páginas (a composição das listagens pode ter mudado)
+     */
+    public void invalidateAllPages() {
+        listInvalidation.incrementAndGet();
+        if (pages.estimatedSize() > 0) {
+            pages.invalidateAll();
+            pagesByEvent.clear();
+        }
+    }
+
+    private void markInvalidated(Long id) {
+        eventInvalidations.put(id, invalidationClock.incrementAndGet());
+    }
+
+    private boolean invalidatedSince(Long id, long clock) {
+        Long invalidatedAt = eventInvalidations.getIfPresent(id);
+        return invalidatedAt != null && invalidatedAt > clock;
+    }
+
+    private void unindex(PageKey key, CachedPage page) {
+        if (key == null || page == null || pages.getIfPresent(key) != null) {
+            return;
+        }
+        for (Long id : page.getIds()) {
+            Set<PageKey> keys = pagesByEvent.get(id);
+            if (keys != null) {
+                keys.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Chave de uma página: tipo de listagem e parâmetros do pedido
+     */
+    @Value(staticConstructor = "of")
+    public static class PageKey {
+        String kind;
+        String parameters;
+    }
+
+    @Value
+    private static class CachedPage {
+        Object value;
+        List<Long> ids;
+    }
+}
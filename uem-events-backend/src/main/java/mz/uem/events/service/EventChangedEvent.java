@@ -0,0 +1,27 @@
+package mz.uem.events.service;
+
+import lombok.Value;
+import mz.uem.events.dto.EventDTO;
+
+/**
+ * Notificação publicada pelo EventService sempre que um evento muda.
+ * Os listeners recebem-na após o commit da transação que originou a alteração.
+ */
+@Value
+public class EventChangedEvent {
+    
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        REGISTERED
+    }
+    
+    Long eventId;
+    ChangeType type;
+    
+    /**
+     * Estado do evento depois da alteração (null quando o evento foi removido)
+     */
+    EventDTO snapshot;
+}
@@ -0,0 +1,264 @@
+package mz.uem.events.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.dto.CreateEventRequest;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.dto.ImportResult;
+import mz.uem.events.entity.Event;
+import mz.uem.events.exception.BusinessException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em lote de eventos a partir de CSV ou NDJSON.
+ *
+ * Cada linha é validada como um {@link CreateEventRequest}; as linhas válidas
+ * são gravadas em blocos de {@value #CHUNK_SIZE}, um bloco por transação. Com os
+ * IDs da sequência alocados em memória (pooled) e hibernate.jdbc.batch_size, os
+ * inserts de events e event_tags de cada bloco seguem em lotes JDBC. O contexto
+ * de persistência é limpo a cada bloco, pelo que a memória não cresce com o
+ * tamanho do ficheiro.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    // Colunas do CSV, pela ordem dos campos de CreateEventRequest
+    private static final List<String> CSV_COLUMNS = List.of(
+            "title", "description", "eventDate", "location", "organizer",
+            "category", "maxCapacity", "imageUrl", "tags", "status");
+    private static final String TAG_SEPARATOR = ";";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EventMapper eventMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Importa um CSV com cabeçalho; tags separadas por ";" e datas ISO-8601
+     */
+    public ImportResult importCsv(InputStream input) throws IOException {
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new BusinessException("O ficheiro CSV está vazio");
+        }
+        Map<String, Integer> columns = csvColumns(header);
+
+        ImportRun run = new ImportRun();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (record.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+            long line = reader.recordLine();
+            Map<String, Object> values = new HashMap<>();
+            for (Map.Entry<String, Integer> column : columns.entrySet()) {
+                int index = column.getValue();
+                String value = index < record.size() ? record.get(index).trim() : "";
+                if (!value.isEmpty()) {
+                    values.put(column.getKey(), "tags".equals(column.getKey()) ? splitTags(value) : value);
+                }
+            }
+            try {
+                run.accept(line, objectMapper.convertValue(values, CreateEventRequest.class));
+            } catch (IllegalArgumentException ex) {
+                run.invalid(line, List.of(describe(ex.getCause())));
+            }
+        }
+        return run.finish();
+    }
+
+    /**
+     * Importa um evento (JSON de CreateEventRequest) por linha
+     */
+    public ImportResult importNdjson(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        ImportRun run = new ImportRun();
+        long line = 0;
+        String json;
+        while ((json = reader.readLine()) != null) {
+            line++;
+            if (json.isBlank()) {
+                continue;
+            }
+            try {
+                run.accept(line, objectMapper.readValue(json, CreateEventRequest.class));
+            } catch (JsonProcessingException ex) {
+                run.invalid(line, List.of(describe(ex)));
+            }
+        }
+        return run.finish();
+    }
+
+    private Map<String, Integer> csvColumns(List<String> header) {
+        Map<String, String> known = CSV_COLUMNS.stream()
+                .collect(Collectors.toMap(column -> column.toLowerCase(Locale.ROOT), column -> column));
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = known.get(header.get(i).trim().toLowerCase(Locale.ROOT));
+            if (column != null) {
+                columns.put(column, i);
+            }
+        }
+        if (columns.isEmpty()) {
+            throw new BusinessException("Cabeçalho CSV sem colunas reconhecidas; esperado: " + String.join(",", CSV_COLUMNS));
+        }
+        return columns;
+    }
+
+    private List<String> splitTags(String value) {
+        return Arrays.stream(value.split(TAG_SEPARATOR))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .toList();
+    }
+
+    private String describe(Throwable ex) {
+        if (ex instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().stream()
+                    .map(reference -> reference.getFieldName() != null ? reference.getFieldName() : "[" + reference.getIndex() + "]")
+                    .collect(Collectors.joining("."));
+            return field + ": valor inválido";
+        }
+        return "Linha com formato inválido";
+    }
+
+    /**
+     * Grava um bloco de eventos numa transação e notifica a criação de cada um depois do commit
+     */
+    private List<EventDTO> saveChunk(List<CreateEventRequest> requests) {
+        List<EventDTO> created = transactionTemplate.execute(status -> {
+            List<Event> events = new ArrayList<>(requests.size());
+            for (CreateEventRequest request : requests) {
+                Event event = eventMapper.toEntity(request);
+                entityManager.persist(event);
+                events.add(event);
+            }
+            entityManager.flush();
+            List<EventDTO> snapshots = events.stream().map(eventMapper::toDTO).toList();
+            entityManager.clear();
+            return snapshots;
+        });
+        created.forEach(event -> eventPublisher.publishEvent(
+                new EventChangedEvent(event.getId(), EventChangedEvent.ChangeType.CREATED, event)));
+        return created;
+    }
+
+    /**
+     * Estado de uma importação: bloco em curso, contagens e erros por linha
+     */
+    private final class ImportRun {
+        private final long startedAt = System.currentTimeMillis();
+        private final List<Long> chunkLines = new ArrayList<>(CHUNK_SIZE);
+        private final List<CreateEventRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<ImportResult.RowError> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long rejected;
+
+        private void accept(long line, CreateEventRequest request) {
+            received++;
+            List<String> violations = validator.validate(request).stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .toList();
+            if (!violations.isEmpty()) {
+                reject(line, violations);
+                return;
+            }
+            chunkLines.add(line);
+            chunk.add(request);
+            if (chunk.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Linha que não pôde ser lida como evento
+         */
+        private void invalid(long line, List<String> messages) {
+            received++;
+            reject(line, messages);
+        }
+
+        private void reject(long line, List<String> messages) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportResult.RowError(line, messages));
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                imported += saveChunk(chunk).size();
+            } catch (RuntimeException ex) {
+                log.warn("Falha ao gravar bloco de {} evento(s) da importação; a gravar linha a linha", chunk.size(), ex);
+                saveRowByRow();
+            }
+            chunk.clear();
+            chunkLines.clear();
+        }
+
+        /**
+         * Depois de falhar o bloco, grava cada linha na sua transação, para que só as linhas
+         * que a base de dados recusa fiquem rejeitadas, cada uma com o seu erro
+         */
+        private void saveRowByRow() {
+            for (int i = 0; i < chunk.size(); i++) {
+                try {
+                    imported += saveChunk(List.of(chunk.get(i))).size();
+                } catch (RuntimeException ex) {
+                    log.warn("Linha {} da importação recusada pela base de dados: {}", chunkLines.get(i),
+                            NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+                    reject(chunkLines.get(i), List.of("Não gravado: a base de dados recusou a linha"));
+                }
+            }
+        }
+
+        private ImportResult finish() {
+            flush();
+            long duration = System.currentTimeMillis() - startedAt;
+            log.info("Importação concluída: {} recebido(s), {} importado(s), {} rejeitado(s) em {} ms",
+                    received, imported, rejected, duration);
+            return ImportResult.builder()
+                    .received(received)
+                    .imported(imported)
+                    .rejected(rejected)
+                    .durationMillis(duration)
+                    .errors(errors)
+                    .errorsTruncated(rejected > errors.size())
+                    .build();
+        }
+    }
+}
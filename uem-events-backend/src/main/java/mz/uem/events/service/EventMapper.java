@@ -0,0 +1,245 @@
+package mz.uem.events.service;
+
+import lombok.RequiredArgsConstructor;
+import mz.uem.events.dto.CreateEventRequest;
+import mz.uem.events.dto.EventCardDTO;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.dto.EventFieldSet;
+import mz.uem.events.dto.EventSparseCard;
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.repository.EventProjectionRepository;
+import mz.uem.events.repository.EventRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Conversão entre a entidade Event e os seus DTOs
+ */
+@Component
+@RequiredArgsConstructor
+public class EventMapper {
+    
+    /**
+     * Número máximo de IDs por consulta de tags (limite de parâmetros dos drivers)
+     */
+    private static final int TAG_QUERY_CHUNK = 1000;
+    
+    private final EventRepository eventRepository;
+    
+    /**
+     * Converte Event para EventDTO
+     */
+    public EventDTO toDTO(Event event) {
+        return toDTO(event, copyTags(event));
+    }
+    
+    /**
+     * Converte Event para EventDTO usando tags já carregadas
+     */
+    public EventDTO toDTO(Event event, List<String> tags) {
+        return EventDTO.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .eventDate(event.getEventDate())
+                .location(event.getLocation())
+                .organizer(event.getOrganizer())
+                .category(event.getCategory())
+                .categoryDisplayName(event.getCategory().getDisplayName())
+                .maxCapacity(event.getMaxCapacity())
+                .currentRegistrations(event.getCurrentRegistrations())
+                .availableCapacity(event.getAvailableCapacity())
+                .occupancyPercentage(event.getOccupancyPercentage())
+                .status(event.getStatus())
+                .statusDisplayName(event.getStatus().getDisplayName())
+                .imageUrl(event.getImageUrl())
+                .tags(tags)
+                .createdAt(event.getCreatedAt())
+                .updatedAt(event.getUpdatedAt())
+                .isFull(event.isFull())
+                .hasAvailableCapacity(event.hasAvailableCapacity())
+                .build();
+    }
+    
+    /**
+     * Converte Event para EventCardDTO usando tags já carregadas
+     */
+    public EventCardDTO toCardDTO(Event event, List<String> tags) {
+        return EventCardDTO.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .eventDate(event.getEventDate())
+                .location(event.getLocation())
+                .organizer(event.getOrganizer())
+                .category(event.getCategory())
+                .categoryDisplayName(event.getCategory().getDisplayName())
+                .status(event.getStatus())
+                .statusDisplayName(event.getStatus().getDisplayName())
+                .imageUrl(event.getImageUrl())
+                .tags(tags)
+                .availableCapacity(event.getAvailableCapacity())
+                .isFull(event.isFull())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+    
+    /**
+     * Cria a entidade de um novo evento a partir do pedido
+     */
+    public Event toEntity(CreateEventRequest request) {
+        return Event.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .eventDate(request.getEventDate())
+                .location(request.getLocation())
+                .organizer(request.getOrganizer())
+                .category(request.getCategory())
+                .maxCapacity(request.getMaxCapacity())
+                .currentRegistrations(0)
+                .status(request.getStatus() != null ? request.getStatus() : EventStatus.UPCOMING)
+                .imageUrl(request.getImageUrl())
+                .tags(request.getTags())
+                .build();
+    }
+    
+    /**
+     * Converte uma lista de eventos para cards, carregando as tags de todos
+     * numa única consulta em vez de uma consulta por evento
+     */
+    public List<EventCardDTO> toCardDTOs(List<Event> events) {
+        Map<Long, List<String>> tags = loadTags(events);
+        List<EventCardDTO> cards = new ArrayList<>(events.size());
+        for (Event event : events) {
+            cards.add(toCardDTO(event, tags.getOrDefault(event.getId(), new ArrayList<>())));
+        }
+        return cards;
+    }
+    
+    /**
+     * Converte uma página de eventos para cards (ver {@link #toCardDTOs(List)})
+     */
+    public Page<EventCardDTO> toCardPage(Page<Event> page) {
+        return new PageImpl<>(toCardDTOs(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+    
+    /**
+     * Colunas a ler para os campos pedidos, mais as usadas no ETag (id, updatedAt, vagas)
+     */
+    public Set<String> sparseColumns(EventFieldSet fields) {
+        Set<String> columns = new LinkedHashSet<>(List.of("id", "updatedAt", "maxCapacity", "currentRegistrations"));
+        for (String field : fields.getFields()) {
+            switch (field) {
+                case "categoryDisplayName" -> columns.add("category");
+                case "statusDisplayName" -> columns.add("status");
+                case "availableCapacity", "isFull", "tags" -> {
+                    // availableCapacity/isFull já incluídos; tags lidas à parte
+                }
+                default -> columns.add(field);
+            }
+        }
+        return columns;
+    }
+    
+    /**
+     * Converte linhas lidas por EventProjectionRepository em cards só com os campos pedidos
+     */
+    public List<EventSparseCard> toSparseCards(List<Map<String, Object>> rows, EventFieldSet fields) {
+        Map<Long, List<String>> tags = fields.includes("tags")
+                ? loadTagsByIds(rows.stream().map(row -> (Long) row.get("id")).toList())
+                : Map.of();
+        List<EventSparseCard> cards = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Long id = (Long) row.get("id");
+            int maxCapacity = (Integer) row.get("maxCapacity");
+            int currentRegistrations = (Integer) row.get("currentRegistrations");
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String field : fields.getFields()) {
+                values.put(field, switch (field) {
+                    case "description" -> excerpt((String) row.get(EventProjectionRepository.DESCRIPTION), fields.getExcerpt());
+                    case "categoryDisplayName" -> ((EventCategory) row.get("category")).getDisplayName();
+                    case "statusDisplayName" -> ((EventStatus) row.get("status")).getDisplayName();
+                    case "tags" -> tags.getOrDefault(id, new ArrayList<>());
+                    case "availableCapacity" -> maxCapacity - currentRegistrations;
+                    case "isFull" -> currentRegistrations >= maxCapacity;
+                    default -> row.get(field);
+                });
+            }
+            cards.add(new EventSparseCard(id, (LocalDateTime) row.get("updatedAt"), maxCapacity - currentRegistrations, values));
+        }
+        return cards;
+    }
+    
+    /**
+     * Corta o texto em maxLength caracteres, de preferência num espaço, e acrescenta "…"
+     */
+    public static String excerpt(String text, Integer maxLength) {
+        if (text == null || maxLength == null || text.length() <= maxLength) {
+            return text;
+        }
+        int end = maxLength;
+        int space = text.lastIndexOf(' ', end);
+        if (space > maxLength / 2) {
+            end = space;
+        }
+        return text.substring(0, end).stripTrailing() + "…";
+    }
+    
+    /**
+     * Tags dos eventos indicados, agrupadas por ID do evento
+     */
+    public Map<Long, List<String>> loadTags(List<Event> events) {
+        return loadTagsByIds(events.stream().map(Event::getId).toList());
+    }
+    
+    /**
+     * Tags dos eventos com os IDs indicados, agrupadas por ID do evento
+     */
+    public Map<Long, List<String>> loadTagsByIds(List<Long> ids) {
+        Map<Long, List<String>> tags = new HashMap<>();
+        if (ids.isEmpty()) {
+            return tags;
+        }
+        for (int from = 0; from < ids.size(); from += TAG_QUERY_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + TAG_QUERY_CHUNK, ids.size()));
+            for (EventRepository.EventTagRow row : eventRepository.findTagsByEventIds(chunk)) {
+                tags.computeIfAbsent(row.getEventId(), id -> new ArrayList<>()).add(row.getTag());
+            }
+        }
+        return tags;
+    }
+    
+    /**
+     * Copia as tags para uma lista simples, desligada da coleção lazy do Hibernate,
+     * para que o DTO possa ser guardado e partilhado fora da sessão
+     */
+    private List<String> copyTags(Event event) {
+        return event.getTags() == null ? new ArrayList<>() : new ArrayList<>(event.getTags());
+    }
+    
+    /**
+     * Copia um EventDTO recalculando os campos que dependem do número de inscrições
+     */
+    public EventDTO withRegistrations(EventDTO event, int currentRegistrations) {
+        int maxCapacity = event.getMaxCapacity();
+        return event.toBuilder()
+                .currentRegistrations(currentRegistrations)
+                .availableCapacity(maxCapacity - currentRegistrations)
+                .occupancyPercentage(maxCapacity == 0 ? 0.0 : (currentRegistrations * 100.0) / maxCapacity)
+                .isFull(currentRegistrations >= maxCapacity)
+                .hasAvailableCapacity(currentRegistrations < maxCapacity)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package mz.uem.events.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.dto.EventCardDTO;
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.exception.BusinessException;
+import mz.uem.events.repository.EventReactiveRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Leituras públicas de eventos sem bloquear threads (API reativa).
+ * 
+ * Devolve os mesmos cards que o EventService, convertidos pelo EventMapper, mas
+ * lê a base de dados pelo driver R2DBC: nenhuma thread fica à espera da base de
+ * dados nem de clientes lentos. Não passa pela cache de leitura.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventReactiveService {
+    
+    /**
+     * Eventos cujas tags são carregadas de cada vez na listagem de próximos eventos
+     */
+    private static final int TAG_CHUNK = 500;
+    
+    private final EventReactiveRepository reactiveRepository;
+    private final EventMapper eventMapper;
+    
+    public Mono<Page<EventCardDTO>> getAllEvents(Pageable pageable) {
+        checkSort(pageable.getSort());
+        return page(pageable,
+                reactiveRepository.findAll(pageable.getSort(), pageable.getOffset(), pageable.getPageSize()),
+                reactiveRepository.count());
+    }
+    
+    public Mono<Page<EventCardDTO>> getEventsByCategory(EventCategory category, Pageable pageable) {
+        return page(pageable,
+                reactiveRepository.findByCategory(category, pageable.getSort(), pageable.getOffset(), pageable.getPageSize()),
+                reactiveRepository.countByCategory(category));
+    }
+    
+    public Mono<Page<EventCardDTO>> getEventsWithAvailableCapacity(Pageable pageable) {
+        return page(pageable,
+                reactiveRepository.findWithAvailableCapacity(pageable.getSort(), pageable.getOffset(), pageable.getPageSize()),
+                reactiveRepository.countWithAvailableCapacity());
+    }
+    
+    /**
+     * Eventos próximos, convertidos e emitidos em blocos à medida que são lidos
+     */
+    public Flux<EventCardDTO> getUpcomingEvents() {
+        return reactiveRepository.findUpcoming(LocalDateTime.now())
+                .buffer(TAG_CHUNK)
+                .concatMap(this::toCards)
+                .flatMapIterable(Function.identity());
+    }
+    
+    private Mono<Page<EventCardDTO>> page(Pageable pageable, Flux<Event> content, Mono<Long> total) {
+        return Mono.zip(content.collectList().flatMap(this::toCards), total)
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+    
+    private Mono<List<EventCardDTO>> toCards(List<Event> events) {
+        List<Long> ids = events.stream().map(Event::getId).toList();
+        return reactiveRepository.findTags(ids).map(tags -> {
+            List<EventCardDTO> cards = new ArrayList<>(events.size());
+            for (Event event : events) {
+                cards.add(eventMapper.toCardDTO(event, tags.getOrDefault(event.getId(), new ArrayList<>())));
+            }
+            return cards;
+        });
+    }
+    
+    private void checkSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!EventReactiveRepository.isSortable(order.getProperty())) {
+                throw new BusinessException("Campo de ordenação inválido: " + order.getProperty());
+            }
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package mz.uem.events.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.Event;
+import mz.uem.events.exception.ServiceUnavailableException;
+import mz.uem.events.repository.EventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória sobre título, descrição, organizador, local e tags.
+ *
+ * Cada evento indexado recebe um número de documento sequencial; as listas de
+ * ocorrências de cada termo ficam ordenadas por esse número, o que permite
+ * intersetar os termos de uma pesquisa avançando em paralelo pelas listas,
+ * a começar pela mais curta. Uma alteração marca o documento antigo como
+ * removido e acrescenta um novo; os removidos são compactados quando passam
+ * de um quarto do índice.
+ *
+ * O índice é construído em segundo plano no arranque e atualizado pelas
+ * notificações do EventService. Até estar pronto, as pesquisas respondem 503.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventSearchIndex {
+
+    private static final int BUILD_CHUNK = 1000;
+
+    // Peso de uma ocorrência em cada campo
+    private static final int TITLE_WEIGHT = 4;
+    private static final int TAG_WEIGHT = 3;
+    private static final int ORGANIZER_WEIGHT = 2;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // Saturação do peso: repetir um termo rende cada vez menos
+    private static final double SATURATION = 2.0;
+
+    private static final int MIN_DOCS_TO_COMPACT = 4096;
+
+    private static final Comparator<ScoredDoc> WORST_FIRST = Comparator
+            .comparingDouble(ScoredDoc::getScore)
+            .thenComparing(ScoredDoc::getEventId, Comparator.reverseOrder());
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // Estado protegido por lock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByEvent = new HashMap<>();
+    private final BitSet deletedDocs = new BitSet();
+    private long[] eventByDoc = new long[1024];
+    private long[] versionByDoc = new long[1024];
+    private int docCount;
+    private int deletedCount;
+
+    // Eventos removidos enquanto a construção inicial decorre, para que não sejam repostos
+    private final Set<Long> removedWhileBuilding = new HashSet<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread builder = new Thread(this::build, "search-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Pesquisa eventos que contenham todos os termos, ordenados por relevância
+     *
+     * @return total de resultados e os IDs de eventos na janela [offset, offset + limit)
+     */
+    public Hits search(String query, int offset, int limit) {
+        if (!ready) {
+            throw new ServiceUnavailableException("Índice de pesquisa em construção; tente novamente dentro de instantes");
+        }
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(EventTextAnalyzer.terms(query)));
+        if (terms.isEmpty()) {
+            return new Hits(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return new Hits(0, List.of());
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            // Pontuação de cada peso possível, por termo (idf x peso saturado)
+            int liveDocs = docByEvent.size();
+            double[][] scores = new double[lists.size()][Byte.MAX_VALUE + 1];
+            for (int i = 0; i < scores.length; i++) {
+                int docFrequency = lists.get(i).size;
+                double idf = Math.log(1 + (liveDocs - docFrequency + 0.5) / (docFrequency + 0.5));
+                for (int weight = 1; weight <= Byte.MAX_VALUE; weight++) {
+                    scores[i][weight] = idf * weight / (weight + SATURATION);
+                }
+            }
+
+            int window = offset + limit;
+            PriorityQueue<ScoredDoc> top = new PriorityQueue<>(Math.max(1, window + 1), WORST_FIRST);
+            int[] cursors = new int[lists.size()];
+            long total = 0;
+            Postings lead = lists.get(0);
+
+            candidates:
+            for (int i = 0; i < lead.size; i++) {
+                int doc = lead.docs[i];
+                if (deletedDocs.get(doc)) {
+                    continue;
+                }
+                double score = scores[0][lead.weights[i]];
+                for (int j = 1; j < lists.size(); j++) {
+                    Postings other = lists.get(j);
+                    int position = other.advance(cursors[j], doc);
+                    cursors[j] = position;
+                    if (position == other.size) {
+                        break candidates;
+                    }
+                    if (other.docs[position] != doc) {
+                        continue candidates;
+                    }
+                    score += scores[j][other.weights[position]];
+                }
+                total++;
+                if (window == 0) {
+                    continue;
+                }
+                long eventId = eventByDoc[doc];
+                if (top.size() == window) {
+                    // Só se cria um candidato se ele entrar na janela
+                    ScoredDoc worst = top.peek();
+                    if (score < worst.getScore() || (score == worst.getScore() && eventId > worst.getEventId())) {
+                        continue;
+                    }
+                    top.poll();
+                }
+                top.add(new ScoredDoc(eventId, score));
+            }
+
+            List<Long> ranked = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ranked.add(top.poll().getEventId());
+            }
+            List<Long> eventIds = new ArrayList<>(limit);
+            for (int i = ranked.size() - 1 - offset; i >= 0; i--) {
+                eventIds.add(ranked.get(i));
+            }
+            return new Hits(total, eventIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mantém o índice em dia com as alterações de texto; inscrições não alteram o texto
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        switch (change.getType()) {
+            case CREATED, UPDATED -> put(analyze(change.getSnapshot()));
+            case DELETED -> remove(change.getEventId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Número de eventos indexados
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByEvent.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void build() {
+        long startedAt = System.nanoTime();
+        try {
+            long afterId = 0;
+            while (true) {
+                long from = afterId;
+                List<IndexedEvent> chunk = transactionTemplate.execute(status -> {
+                    List<Event> events = eventRepository.findByIdGreaterThanOrderByIdAsc(from, Limit.of(BUILD_CHUNK));
+                    Map<Long, List<String>> tags = eventMapper.loadTags(events);
+                    return events.stream()
+                            .map(event -> analyze(event, tags.getOrDefault(event.getId(), List.of())))
+                            .toList();
+                });
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                chunk.forEach(this::put);
+                afterId = chunk.get(chunk.size() - 1).getEventId();
+            }
+        } catch (RuntimeException ex) {
+            log.error("Falha ao construir o índice de pesquisa", ex);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            ready = true;
+            removedWhileBuilding.clear();
+            log.info("Índice de pesquisa pronto: {} evento(s), {} termo(s) em {} ms", docByEvent.size(), postings.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(IndexedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Long eventId = event.getEventId();
+            if (!ready && removedWhileBuilding.contains(eventId)) {
+                return;
+            }
+            Integer previous = docByEvent.get(eventId);
+            if (previous != null) {
+                // Uma leitura antiga (da construção inicial) não substitui uma versão mais recente
+                if (versionByDoc[previous] > event.getVersion()) {
+                    return;
+                }
+                markDeleted(previous);
+            }
+
+            int doc = docCount++;
+            if (doc == eventByDoc.length) {
+                eventByDoc = Arrays.copyOf(eventByDoc, doc * 2);
+                versionByDoc = Arrays.copyOf(versionByDoc, doc * 2);
+            }
+            eventByDoc[doc] = eventId;
+            versionByDoc[doc] = event.getVersion();
+            docByEvent.put(eventId, doc);
+            event.getTermWeights().forEach((term, weight) ->
+                    postings.computeIfAbsent(term, ignored -> new Postings()).add(doc, weight));
+
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByEvent.remove(eventId);
+            if (doc != null) {
+                markDeleted(doc);
+            }
+            if (!ready) {
+                removedWhileBuilding.add(eventId);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markDeleted(int doc) {
+        deletedDocs.set(doc);
+        deletedCount++;
+    }
+
+    /**
+     * Renumera os documentos vivos (mantendo a ordem) e retira os removidos das listas
+     */
+    private void compactIfNeeded() {
+        if (docCount < MIN_DOCS_TO_COMPACT || deletedCount * 4 < docCount) {
+            return;
+        }
+        int[] remap = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deletedDocs.get(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = live;
+                eventByDoc[live] = eventByDoc[doc];
+                versionByDoc[live] = versionByDoc[doc];
+                live++;
+            }
+        }
+        Iterator<Postings> lists = postings.values().iterator();
+        while (lists.hasNext()) {
+            Postings list = lists.next();
+            list.retain(remap);
+            if (list.size == 0) {
+                lists.remove();
+            }
+        }
+        docByEvent.replaceAll((eventId, doc) -> remap[doc]);
+        deletedDocs.clear();
+        deletedCount = 0;
+        docCount = live;
+    }
+
+    private IndexedEvent analyze(Event event, List<String> tags) {
+        return analyze(event.getId(), event.getUpdatedAt(), event.getTitle(), event.getDescription(),
+                event.getOrganizer(), event.getLocation(), tags);
+    }
+
+    private IndexedEvent analyze(EventDTO event) {
+        return analyze(event.getId(), event.getUpdatedAt(), event.getTitle(), event.getDescription(),
+                event.getOrganizer(), event.getLocation(), event.getTags());
+    }
+
+    private IndexedEvent analyze(Long id, LocalDateTime updatedAt, String title, String description,
+                                 String organizer, String location, List<String> tags) {
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, title, TITLE_WEIGHT);
+        addTerms(weights, description, DESCRIPTION_WEIGHT);
+        addTerms(weights, organizer, ORGANIZER_WEIGHT);
+        addTerms(weights, location, LOCATION_WEIGHT);
+        if (tags != null) {
+            tags.forEach(tag -> addTerms(weights, tag, TAG_WEIGHT));
+        }
+        long version = updatedAt == null ? 0 : updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return new IndexedEvent(id, version, weights);
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        for (String term : EventTextAnalyzer.terms(text)) {
+            weights.merge(term, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * Resultado de uma pesquisa: total de eventos encontrados e os IDs da janela pedida
+     */
+    @Value
+    public static class Hits {
+        long total;
+        List<Long> eventIds;
+    }
+
+    @Value
+    private static class IndexedEvent {
+        Long eventId;
+        long version;
+        Map<String, Integer> termWeights;
+    }
+
+    @Value
+    private static class ScoredDoc {
+        Long eventId;
+        double score;
+    }
+
+    /**
+     * Documentos (por ordem crescente) e peso do termo em cada um
+     */
+    private static final class Postings {
+        private static final int LINEAR_SCAN = 8;
+
+        private int[] docs = new int[4];
+        private byte[] weights = new byte[4];
+        private int size;
+
+        private void add(int doc, int weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = (byte) Math.min(weight, Byte.MAX_VALUE);
+            size++;
+        }
+
+        /**
+         * Primeira posição a partir de from com documento >= doc (size se não houver):
+         * avanço linear curto para listas densas, depois salto exponencial e busca binária
+         */
+        private int advance(int from, int doc) {
+            int position = from;
+            int linearEnd = Math.min(size, from + LINEAR_SCAN);
+            while (position < linearEnd && docs[position] < doc) {
+                position++;
+            }
+            if (position < linearEnd || position == size) {
+                return position;
+            }
+            int low = position;
+            int high = position;
+            int step = 1;
+            while (high < size && docs[high] < doc) {
+                low = high + 1;
+                high = position + step;
+                step <<= 1;
+            }
+            int end = Math.min(high + 1, size);
+            if (low >= end) {
+                return low;
+            }
+            int found = Arrays.binarySearch(docs, low, end, doc);
+            return found >= 0 ? found : -found - 1;
+        }
+
+        private void retain(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    weights[kept] = weights[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (size < docs.length / 4) {
+                docs = Arrays.copyOf(docs, Math.max(4, size));
+                weights = Arrays.copyOf(weights, Math.max(4, size));
+            }
+        }
+    }
+}
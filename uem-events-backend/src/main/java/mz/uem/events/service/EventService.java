@@ -1,23 +1,51 @@
 package mz.uem.events.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.config.EventBatchProperties;
 import mz.uem.events.dto.CreateEventRequest;
+import mz.uem.events.dto.CursorPage;
+import mz.uem.events.dto.EventBatchResult;
 import mz.uem.events.dto.EventCardDTO;
+import mz.uem.events.dto.EventCursor;
 import mz.uem.events.dto.EventDTO;
+import mz.uem.events.dto.EventFieldSet;
+import mz.uem.events.dto.EventSparseCard;
+import mz.uem.events.dto.EventStatsDTO;
+import mz.uem.events.dto.EventVersion;
+import mz.uem.events.dto.RegistrationResult;
 import mz.uem.events.entity.Event;
 import mz.uem.events.entity.EventCategory;
 import mz.uem.events.entity.EventStatus;
 import mz.uem.events.exception.BusinessException;
 import mz.uem.events.exception.ResourceNotFoundException;
+import mz.uem.events.repository.EventProjectionRepository;
 import mz.uem.events.repository.EventRepository;
+import mz.uem.events.repository.RegistrationRepository;
+import mz.uem.events.repository.WaitlistRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Service para lógica de negócio de eventos
@@ -27,26 +55,87 @@ import java.util.List;
 @Slf4j
 public class EventService {
     
+    /**
+     * Número máximo de resultados de pesquisa que se podem paginar
+     */
+    private static final int SEARCH_WINDOW = 10_000;
+    
+    /**
+     * Eventos lidos por transação (tags numa consulta por bloco) no modo streaming
+     */
+    private static final int STREAM_CHUNK = 500;
+    
     private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EventCache eventCache;
+    private final RegistrationRecorder registrationRecorder;
+    private final RegistrationRepository registrationRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final WaitlistService waitlistService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventSearchIndex searchIndex;
+    private final EventStatistics eventStatistics;
+    private final EventProjectionRepository projectionRepository;
+    private final EventBatchProperties batchProperties;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
     
     /**
      * Busca todos os eventos com paginação
      */
-    @Transactional(readOnly = true)
     public Page<EventCardDTO> getAllEvents(Pageable pageable) {
         log.debug("Buscando todos os eventos, página: {}", pageable.getPageNumber());
-        return eventRepository.findAll(pageable).map(this::toCardDTO);
+        return eventCache.getPage(allKey(pageable),
+                () -> readOnly(() -> eventMapper.toCardPage(eventRepository.findAll(pageable))),
+                page -> cardIds(page.getContent()));
     }
     
     /**
      * Busca evento por ID
      */
-    @Transactional(readOnly = true)
     public EventDTO getEventById(Long id) {
         log.debug("Buscando evento com ID: {}", id);
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", id));
-        return toDTO(event);
+        return eventCache.getEvent(id, () -> readOnly(() -> eventRepository.findById(id)
+                .map(eventMapper::toDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", id))));
+    }
+    
+    /**
+     * Busca vários eventos por ID, pela ordem pedida
+     * 
+     * Os eventos fora da cache são lidos numa consulta e as suas tags noutra,
+     * qualquer que seja o número de IDs; IDs inexistentes são devolvidos como
+     * itens com found = false.
+     */
+    public EventBatchResult getEventsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BusinessException("Indique pelo menos um ID");
+        }
+        if (ids.size() > batchProperties.getMaxIds()) {
+            throw new BusinessException("No máximo " + batchProperties.getMaxIds() + " IDs por pedido");
+        }
+        log.debug("Buscando {} eventos em lote", ids.size());
+        
+        Map<Long, EventDTO> events = eventCache.getEvents(new LinkedHashSet<>(ids), missing -> readOnly(() -> {
+            List<Event> loaded = eventRepository.findAllById(missing);
+            Map<Long, List<String>> tags = eventMapper.loadTags(loaded);
+            Map<Long, EventDTO> dtos = new HashMap<>();
+            for (Event event : loaded) {
+                dtos.put(event.getId(), eventMapper.toDTO(event, tags.getOrDefault(event.getId(), new ArrayList<>())));
+            }
+            return dtos;
+        }));
+        
+        List<EventBatchResult.Item> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            EventDTO event = events.get(id);
+            items.add(new EventBatchResult.Item(id, event != null, event));
+        }
+        return EventBatchResult.builder()
+                .requested(ids.size())
+                .found((int) items.stream().filter(EventBatchResult.Item::getFound).count())
+                .items(items)
+                .build();
     }
     
     /**
@@ -61,24 +150,14 @@ public class EventService {
             throw new BusinessException("A data do evento deve ser futura");
         }
         
-        Event event = Event.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .eventDate(request.getEventDate())
-                .location(request.getLocation())
-                .organizer(request.getOrganizer())
-                .category(request.getCategory())
-                .maxCapacity(request.getMaxCapacity())
-                .currentRegistrations(0)
-                .status(request.getStatus() != null ? request.getStatus() : EventStatus.UPCOMING)
-                .imageUrl(request.getImageUrl())
-                .tags(request.getTags())
-                .build();
+        Event event = eventMapper.toEntity(request);
         
         Event savedEvent = eventRepository.save(event);
         log.info("Evento criado com sucesso, ID: {}", savedEvent.getId());
         
-        return toDTO(savedEvent);
+        EventDTO created = eventMapper.toDTO(savedEvent);
+        publishChange(created.getId(), EventChangedEvent.ChangeType.CREATED, created);
+        return created;
     }
     
     /**
@@ -108,7 +187,9 @@ public class EventService {
         Event updatedEvent = eventRepository.save(event);
         log.info("Evento atualizado com sucesso");
         
-        return toDTO(updatedEvent);
+        EventDTO updated = eventMapper.toDTO(updatedEvent);
+        publishChange(id, EventChangedEvent.ChangeType.UPDATED, updated);
+        return updated;
     }
     
     /**
@@ -121,118 +202,443 @@ public class EventService {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", id));
         
+        registrationRepository.deleteByEventId(id);
+        waitlistRepository.deleteByEventId(id);
         eventRepository.delete(event);
         log.info("Evento deletado com sucesso");
+        
+        publishChange(id, EventChangedEvent.ChangeType.DELETED, null);
     }
     
     /**
      * Filtra eventos por categoria
      */
-    @Transactional(readOnly = true)
     public Page<EventCardDTO> getEventsByCategory(EventCategory category, Pageable pageable) {
         log.debug("Buscando eventos da categoria: {}", category);
-        return eventRepository.findByCategory(category, pageable).map(this::toCardDTO);
+        return eventCache.getPage(categoryKey(category, pageable),
+                () -> readOnly(() -> eventMapper.toCardPage(eventRepository.findByCategory(category, pageable))),
+                page -> cardIds(page.getContent()));
     }
     
     /**
      * Filtra eventos por status
      */
-    @Transactional(readOnly = true)
     public Page<EventCardDTO> getEventsByStatus(EventStatus status, Pageable pageable) {
         log.debug("Buscando eventos com status: {}", status);
-        return eventRepository.findByStatus(status, pageable).map(this::toCardDTO);
+        return eventCache.getPage(statusKey(status, pageable),
+                () -> readOnly(() -> eventMapper.toCardPage(eventRepository.findByStatus(status, pageable))),
+                page -> cardIds(page.getContent()));
     }
     
     /**
      * Busca eventos próximos (upcoming)
+     * 
+     * O instante é arredondado ao minuto para que a consulta tenha os mesmos parâmetros
+     * durante um minuto e possa ser servida pela cache de consultas; um evento que começou
+     * há menos de um minuto e ainda não passou a ONGOING continua na lista.
      */
-    @Transactional(readOnly = true)
     public List<EventCardDTO> getUpcomingEvents() {
         log.debug("Buscando eventos próximos");
-        return eventRepository.findUpcomingEvents(LocalDateTime.now())
-                .stream()
-                .map(this::toCardDTO)
-                .toList();
+        return eventCache.getPage(EventCache.PageKey.of("upcoming", ""),
+                () -> readOnly(() -> eventMapper.toCardDTOs(eventRepository.findUpcomingEvents(
+                        LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES)))),
+                this::cardIds);
+    }
+    
+    /**
+     * Entrega os eventos próximos um a um ao consumer, em memória constante
+     * 
+     * Lê-os em blocos por keyset (eventDate, id), cada bloco numa transação curta
+     * (tags numa consulta por bloco), e só entrega o bloco depois de a transação
+     * terminar: a ligação à base de dados não fica presa enquanto o cliente lê.
+     * Não é um instantâneo: alterações entre blocos podem ou não aparecer.
+     */
+    public void streamUpcomingEvents(Consumer<EventCardDTO> consumer) {
+        log.debug("Transmitindo eventos próximos");
+        LocalDateTime afterDate = LocalDateTime.now();
+        long afterId = 0;
+        while (true) {
+            LocalDateTime date = afterDate;
+            long id = afterId;
+            List<EventCardDTO> chunk = readOnly(() -> eventMapper.toCardDTOs(
+                    eventRepository.findUpcomingAfter(date, id, Limit.of(STREAM_CHUNK))));
+            chunk.forEach(consumer);
+            if (chunk.size() < STREAM_CHUNK) {
+                return;
+            }
+            EventCardDTO last = chunk.get(chunk.size() - 1);
+            afterDate = last.getEventDate();
+            afterId = last.getId();
+        }
     }
     
     /**
      * Busca eventos com vagas disponíveis
      */
-    @Transactional(readOnly = true)
     public Page<EventCardDTO> getEventsWithAvailableCapacity(Pageable pageable) {
         log.debug("Buscando eventos com vagas disponíveis");
-        return eventRepository.findEventsWithAvailableCapacity(pageable).map(this::toCardDTO);
+        return eventCache.getPage(availableKey(pageable),
+                () -> readOnly(() -> eventMapper.toCardPage(eventRepository.findEventsWithAvailableCapacity(pageable))),
+                page -> cardIds(page.getContent()));
     }
     
     /**
-     * Registra um participante no evento
+     * Lista eventos por cursor (keyset sobre eventDate, id)
+     */
+    public CursorPage<EventCardDTO> scrollEvents(String cursor, int size) {
+        EventCursor after = EventCursor.decode(cursor);
+        log.debug("Buscando eventos após o cursor: {}", after);
+        return eventCache.getPage(EventCache.PageKey.of("all-cursor", after + ":" + size),
+                () -> readOnly(() -> toCursorPage(
+                        eventRepository.findPageAfter(after.getEventDate(), after.getId(), limitFor(size)), size)),
+                page -> cardIds(page.getContent()));
+    }
+    
+    /**
+     * Filtra eventos por categoria, paginando por cursor
+     */
+    public CursorPage<EventCardDTO> scrollEventsByCategory(EventCategory category, String cursor, int size) {
+        EventCursor after = EventCursor.decode(cursor);
+        log.debug("Buscando eventos da categoria {} após o cursor: {}", category, after);
+        return eventCache.getPage(EventCache.PageKey.of("category-cursor", category + ":" + after + ":" + size),
+                () -> readOnly(() -> toCursorPage(eventRepository.findPageByCategoryAfter(
+                        category, after.getEventDate(), after.getId(), limitFor(size)), size)),
+                page -> cardIds(page.getContent()));
+    }
+    
+    /**
+     * Filtra eventos por status, paginando por cursor
+     */
+    public CursorPage<EventCardDTO> scrollEventsByStatus(EventStatus status, String cursor, int size) {
+        EventCursor after = EventCursor.decode(cursor);
+        log.debug("Buscando eventos com status {} após o cursor: {}", status, after);
+        return eventCache.getPage(EventCache.PageKey.of("status-cursor", status + ":" + after + ":" + size),
+                () -> readOnly(() -> toCursorPage(eventRepository.findPageByStatusAfter(
+                        status, after.getEventDate(), after.getId(), limitFor(size)), size)),
+                page -> cardIds(page.getContent()));
+    }
+    
+    /**
+     * Busca eventos com vagas disponíveis, paginando por cursor
+     */
+    public CursorPage<EventCardDTO> scrollEventsWithAvailableCapacity(String cursor, int size) {
+        EventCursor after = EventCursor.decode(cursor);
+        log.debug("Buscando eventos com vagas disponíveis após o cursor: {}", after);
+        return eventCache.getPage(EventCache.PageKey.of(EventCache.AVAILABLE, "cursor:" + after + ":" + size),
+                () -> readOnly(() -> toCursorPage(eventRepository.findPageWithAvailableCapacityAfter(
+                        after.getEventDate(), after.getId(), limitFor(size)), size)),
+                page -> cardIds(page.getContent()));
+    }
+    
+    /**
+     * Listagem por offset apenas com os campos pedidos (fields=, excerpt=): lê só as
+     * colunas necessárias e guarda a página na cache separada da do card completo
+     */
+    public Page<EventSparseCard> getSparseCards(EventProjectionRepository.Listing listing, Pageable pageable,
+                                                EventFieldSet fields) {
+        log.debug("Buscando eventos ({}) com os campos: {}", listing.kind(), fields.signature());
+        return eventCache.getPage(
+                EventCache.PageKey.of(listing.kind(), listing.parameters() + ":" + pageable + ":" + fields.signature()),
+                () -> readOnly(() -> {
+                    Page<Map<String, Object>> rows = projectionRepository.findPage(
+                            listing, eventMapper.sparseColumns(fields), fields.getExcerpt(), pageable);
+                    return new PageImpl<>(eventMapper.toSparseCards(rows.getContent(), fields), pageable, rows.getTotalElements());
+                }),
+                page -> sparseIds(page.getContent()));
+    }
+    
+    /**
+     * Listagem por cursor apenas com os campos pedidos (ver {@link #getSparseCards})
+     */
+    public CursorPage<EventSparseCard> scrollSparseCards(EventProjectionRepository.Listing listing, String cursor,
+                                                         int size, EventFieldSet fields) {
+        EventCursor after = EventCursor.decode(cursor);
+        Limit limit = limitFor(size);
+        log.debug("Buscando eventos ({}) após o cursor {} com os campos: {}", listing.kind(), after, fields.signature());
+        return eventCache.getPage(
+                EventCache.PageKey.of(listing.kind(),
+                        "cursor:" + listing.parameters() + ":" + after + ":" + size + ":" + fields.signature()),
+                () -> readOnly(() -> {
+                    // eventDate é sempre lido para construir o cursor seguinte
+                    Set<String> columns = eventMapper.sparseColumns(fields);
+                    columns.add("eventDate");
+                    List<Map<String, Object>> rows = projectionRepository.findPageAfter(listing, columns,
+                            fields.getExcerpt(), after.getEventDate(), after.getId(), limit.max());
+                    boolean hasNext = rows.size() > size;
+                    if (hasNext) {
+                        rows = rows.subList(0, size);
+                    }
+                    String nextCursor = null;
+                    if (hasNext) {
+                        Map<String, Object> last = rows.get(rows.size() - 1);
+                        nextCursor = new EventCursor((LocalDateTime) last.get("eventDate"), (Long) last.get("id")).encode();
+                    }
+                    return CursorPage.<EventSparseCard>builder()
+                            .content(eventMapper.toSparseCards(rows, fields))
+                            .size(rows.size())
+                            .hasNext(hasNext)
+                            .nextCursor(nextCursor)
+                            .build();
+                }),
+                page -> sparseIds(page.getContent()));
+    }
+    
+    /**
+     * Pesquisa de texto nos eventos, ordenada por relevância
+     */
+    @Transactional(readOnly = true)
+    public Page<EventCardDTO> searchEvents(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessException("O termo de pesquisa é obrigatório");
+        }
+        if (pageable.getOffset() + pageable.getPageSize() > SEARCH_WINDOW) {
+            throw new BusinessException("A pesquisa só percorre os primeiros " + SEARCH_WINDOW + " resultados");
+        }
+        EventSearchIndex.Hits hits = searchIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize());
+        
+        Map<Long, Event> events = new HashMap<>();
+        eventRepository.findAllById(hits.getEventIds()).forEach(event -> events.put(event.getId(), event));
+        List<Event> ranked = hits.getEventIds().stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(eventMapper.toCardDTOs(ranked), pageable, hits.getTotal());
+    }
+    
+    /**
+     * Estatísticas agregadas dos eventos (mantidas em memória, sem consultar a base de dados)
+     */
+    public EventStatsDTO getEventStatistics() {
+        return eventStatistics.summary();
+    }
+    
+    /**
+     * Versão (ETag, Last-Modified) de um evento, sem carregar a entidade
+     */
+    public EventVersion getEventVersion(Long id) {
+        EventDTO cached = eventCache.peekEvent(id);
+        if (cached != null) {
+            return EventVersions.of(cached);
+        }
+        return eventRepository.findStampById(id)
+                .map(EventVersions::of)
+                .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", id));
+    }
+    
+    /**
+     * Versão (ETag) de uma página de todos os eventos
+     */
+    public EventVersion getAllEventsVersion(Pageable pageable) {
+        Page<EventCardDTO> cached = eventCache.peekPage(allKey(pageable));
+        return cached != null ? EventVersions.ofCards(cached) : EventVersions.ofStamps(eventRepository.findStampsBy(pageable));
+    }
+    
+    /**
+     * Versão (ETag) de uma página de eventos de uma categoria
+     */
+    public EventVersion getEventsByCategoryVersion(EventCategory category, Pageable pageable) {
+        Page<EventCardDTO> cached = eventCache.peekPage(categoryKey(category, pageable));
+        return cached != null
+                ? EventVersions.ofCards(cached)
+                : EventVersions.ofStamps(eventRepository.findStampsByCategory(category, pageable));
+    }
+    
+    /**
+     * Versão (ETag) de uma página de eventos de um status
+     */
+    public EventVersion getEventsByStatusVersion(EventStatus status, Pageable pageable) {
+        Page<EventCardDTO> cached = eventCache.peekPage(statusKey(status, pageable));
+        return cached != null
+                ? EventVersions.ofCards(cached)
+                : EventVersions.ofStamps(eventRepository.findStampsByStatus(status, pageable));
+    }
+    
+    /**
+     * Versão (ETag) de uma página de eventos com vagas disponíveis
+     */
+    public EventVersion getEventsWithAvailableCapacityVersion(Pageable pageable) {
+        Page<EventCardDTO> cached = eventCache.peekPage(availableKey(pageable));
+        return cached != null
+                ? EventVersions.ofCards(cached)
+                : EventVersions.ofStamps(eventRepository.findStampsWithAvailableCapacity(pageable));
+    }
+    
+    /**
+     * Registra um participante anónimo no evento
      */
-    @Transactional
     public EventDTO registerParticipant(Long eventId) {
+        return registerParticipant(eventId, null, null).getEvent();
+    }
+    
+    /**
+     * Registra um participante no evento
+     * 
+     * A inscrição é gravada e a vaga reservada na mesma transação (RegistrationRecorder);
+     * a reserva é delegada ao RegistrationEngine configurado (uem.events.registration.mode).
+     * Um pedido com a mesma chave de idempotência, ou do mesmo participante, falha na
+     * restrição de unicidade e devolve o estado atual sem nova inscrição.
+     * 
+     * Num evento lotado, ou com fila já formada, um pedido identificado (participante ou
+     * chave) entra na fila de espera (WaitlistService); os anónimos recebem "Evento lotado".
+     * O resultado de cada tentativa é contado em events.registrations (outcome: accepted,
+     * duplicate, waitlisted, full, not_upcoming, not_found).
+     */
+    public RegistrationResult registerParticipant(Long eventId, String attendee, String idempotencyKey) {
         log.info("Registrando participante no evento ID: {}", eventId);
         
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", eventId));
+        attendee = normalize(attendee, 200, "Participante");
+        idempotencyKey = normalize(idempotencyKey, 100, "Idempotency-Key");
+        boolean identified = attendee != null || idempotencyKey != null;
         
-        if (event.getStatus() != EventStatus.UPCOMING) {
-            throw new BusinessException("Apenas eventos próximos aceitam inscrições");
+        if (identified && waitlistService.hasWaiters(eventId)) {
+            // Fila já formada: o pedido vai para o fim, sem disputar as vagas libertadas
+            if (isRegistered(eventId, attendee, idempotencyKey)) {
+                countRegistration("duplicate");
+                return RegistrationResult.replayed(currentEvent(eventId));
+            }
+            return joinWaitlist(eventId, attendee, idempotencyKey);
         }
         
-        event.registerParticipant(); // Método da entidade que valida e incrementa
-        
-        Event updatedEvent = eventRepository.save(event);
+        EventDTO event;
+        try {
+            event = registrationRecorder.record(eventId, attendee, idempotencyKey);
+        } catch (DataIntegrityViolationException ex) {
+            if (!RegistrationRecorder.isDuplicate(ex)) {
+                throw ex;
+            }
+            countRegistration("duplicate");
+            log.info("Inscrição repetida no evento ID: {}, nada alterado", eventId);
+            return RegistrationResult.replayed(currentEvent(eventId));
+        } catch (IllegalStateException ex) {
+            if (identified && waitlistService.isEnabled()) {
+                return joinWaitlist(eventId, attendee, idempotencyKey);
+            }
+            countRegistration("full");
+            throw ex;
+        } catch (BusinessException ex) {
+            countRegistration("not_upcoming");
+            throw ex;
+        } catch (ResourceNotFoundException ex) {
+            countRegistration("not_found");
+            throw ex;
+        }
+        countRegistration("accepted");
         log.info("Participante registrado com sucesso");
         
-        return toDTO(updatedEvent);
-    }
-    
-    /**
-     * Converte Event para EventDTO
-     */
-    private EventDTO toDTO(Event event) {
-        return EventDTO.builder()
-                .id(event.getId())
-                .title(event.getTitle())
-                .description(event.getDescription())
-                .eventDate(event.getEventDate())
-                .location(event.getLocation())
-                .organizer(event.getOrganizer())
-                .category(event.getCategory())
-                .categoryDisplayName(event.getCategory().getDisplayName())
-                .maxCapacity(event.getMaxCapacity())
-                .currentRegistrations(event.getCurrentRegistrations())
-                .availableCapacity(event.getAvailableCapacity())
-                .occupancyPercentage(event.getOccupancyPercentage())
-                .status(event.getStatus())
-                .statusDisplayName(event.getStatus().getDisplayName())
-                .imageUrl(event.getImageUrl())
-                .tags(event.getTags())
-                .createdAt(event.getCreatedAt())
-                .updatedAt(event.getUpdatedAt())
-                .isFull(event.isFull())
-                .hasAvailableCapacity(event.hasAvailableCapacity())
-                .build();
+        publishChange(eventId, EventChangedEvent.ChangeType.REGISTERED, event);
+        return RegistrationResult.registered(event);
+    }
+    
+    /**
+     * Cancela a inscrição de um participante; a vaga passa ao primeiro da fila de espera
+     */
+    public EventDTO cancelRegistration(Long eventId, String attendee, String idempotencyKey) {
+        log.info("Cancelando inscrição no evento ID: {}", eventId);
+        EventDTO event = waitlistService.cancelRegistration(eventId,
+                normalize(attendee, 200, "Participante"), normalize(idempotencyKey, 100, "Idempotency-Key"));
+        countRegistration("cancelled");
+        return event;
+    }
+    
+    private RegistrationResult joinWaitlist(Long eventId, String attendee, String idempotencyKey) {
+        RegistrationResult result = waitlistService.enqueue(eventId, attendee, idempotencyKey);
+        countRegistration("waitlisted");
+        log.info("Evento ID: {} lotado, pedido na fila de espera (posição {})",
+                eventId, result.getWaitlist().getPosition());
+        return result;
+    }
+    
+    private boolean isRegistered(Long eventId, String attendee, String idempotencyKey) {
+        return (attendee != null && registrationRepository.existsByEventIdAndAttendee(eventId, attendee))
+                || (idempotencyKey != null && registrationRepository.existsByEventIdAndIdempotencyKey(eventId, idempotencyKey));
+    }
+    
+    private EventDTO currentEvent(Long eventId) {
+        return eventCache.getEvent(eventId, () -> registrationRecorder.current(eventId));
+    }
+    
+    /**
+     * Remove espaços e valida o tamanho de um identificador opcional; vazio conta como ausente
+     */
+    private static String normalize(String value, int maxLength, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.strip();
+        if (trimmed.length() > maxLength) {
+            throw new BusinessException(name + " deve ter no máximo " + maxLength + " caracteres");
+        }
+        return trimmed;
+    }
+    
+    private void countRegistration(String outcome) {
+        meterRegistry.counter("events.registrations", "outcome", outcome).increment();
+    }
+    
+    /**
+     * Corre o carregamento de uma falha de cache numa transação só de leitura; os acertos
+     * são servidos sem abrir transação nem pedir uma ligação ao pool
+     */
+    private <T> T readOnly(Supplier<T> loader) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> loader.get());
+    }
+    
+    /**
+     * Pede uma linha a mais do que o tamanho da página para saber se existe página seguinte
+     */
+    private Limit limitFor(int size) {
+        if (size < 1) {
+            throw new BusinessException("Tamanho da página deve ser pelo menos 1");
+        }
+        return Limit.of(size + 1);
     }
     
     /**
-     * Converte Event para EventCardDTO
-     */
-    private EventCardDTO toCardDTO(Event event) {
-        return EventCardDTO.builder()
-                .id(event.getId())
-                .title(event.getTitle())
-                .description(event.getDescription())
-                .eventDate(event.getEventDate())
-                .location(event.getLocation())
-                .organizer(event.getOrganizer())
-                .category(event.getCategory())
-                .categoryDisplayName(event.getCategory().getDisplayName())
-                .status(event.getStatus())
-                .statusDisplayName(event.getStatus().getDisplayName())
-                .imageUrl(event.getImageUrl())
-                .tags(event.getTags())
-                .availableCapacity(event.getAvailableCapacity())
-                .isFull(event.isFull())
+     * Monta a página a partir de size + 1 linhas: a linha extra só indica se há página seguinte
+     */
+    private CursorPage<EventCardDTO> toCursorPage(List<Event> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<Event> events = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Event last = events.get(events.size() - 1);
+            nextCursor = new EventCursor(last.getEventDate(), last.getId()).encode();
+        }
+        return CursorPage.<EventCardDTO>builder()
+                .content(eventMapper.toCardDTOs(events))
+                .size(events.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
                 .build();
     }
+    
+    private EventCache.PageKey allKey(Pageable pageable) {
+        return EventCache.PageKey.of("all", pageable.toString());
+    }
+    
+    private EventCache.PageKey categoryKey(EventCategory category, Pageable pageable) {
+        return EventCache.PageKey.of("category", category + ":" + pageable);
+    }
+    
+    private EventCache.PageKey statusKey(EventStatus status, Pageable pageable) {
+        return EventCache.PageKey.of("status", status + ":" + pageable);
+    }
+    
+    private EventCache.PageKey availableKey(Pageable pageable) {
+        return EventCache.PageKey.of(EventCache.AVAILABLE, pageable.toString());
+    }
+    
+    private List<Long> cardIds(List<EventCardDTO> cards) {
+        return cards.stream().map(EventCardDTO::getId).toList();
+    }
+    
+    private List<Long> sparseIds(List<EventSparseCard> cards) {
+        return cards.stream().map(EventSparseCard::getEventId).toList();
+    }
+    
+    private void publishChange(Long eventId, EventChangedEvent.ChangeType type, EventDTO snapshot) {
+        eventPublisher.publishEvent(new EventChangedEvent(eventId, type, snapshot));
+    }
 }
@@ -0,0 +1,314 @@
+package mz.uem.events.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.config.EventStatsProperties;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.dto.EventStatsDTO;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.exception.ServiceUnavailableException;
+import mz.uem.events.repository.EventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Estatísticas agregadas dos eventos, mantidas em memória.
+ *
+ * Os totais por categoria, status e faixa de ocupação são ajustados a cada
+ * notificação do EventService (criação, alteração, remoção, inscrição): guarda-se
+ * por evento apenas categoria, status, capacidade e inscrições, o suficiente para
+ * retirar a contribuição anterior e somar a nova. A leitura devolve um resumo já
+ * calculado, sem consultar a base de dados.
+ *
+ * As notificações chegam depois do commit, cada uma na thread da sua transação, e
+ * podem chegar fora de ordem: uma inscrição (REGISTERED) soma 1 às inscrições já
+ * guardadas, o que não depende da ordem entre inscrições, e um snapshot com updatedAt
+ * anterior ao guardado é ignorado.
+ *
+ * No arranque e a cada reconcile-interval os agregados são recalculados a partir
+ * da base de dados (leitura por ordem de ID, em blocos); as notificações recebidas
+ * durante essa leitura prevalecem sobre os valores lidos.
+ */
+@Component
+@Slf4j
+public class EventStatistics {
+
+    private static final int RECONCILE_CHUNK = 1000;
+
+    private static final String[] OCCUPANCY_BUCKETS = {"0%", "1-25%", "26-50%", "51-75%", "76-99%", "100%"};
+
+    private final EventStatsProperties properties;
+    private final EventRepository eventRepository;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "event-stats-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Estado protegido por lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<Long, Counters> entries = new HashMap<>();
+    private Totals totals = new Totals();
+    // Alterações recebidas durante uma reconciliação (vazio = evento removido); null fora dela
+    private Map<Long, Optional<Counters>> changedWhileReconciling;
+    private LocalDateTime reconciledAt;
+    private EventStatsDTO summary;
+    private volatile boolean ready;
+
+    public EventStatistics(EventStatsProperties properties, EventRepository eventRepository) {
+        this.properties = properties;
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Contribuição de um evento para os agregados
+     */
+    record Counters(EventCategory category, EventStatus status, int maxCapacity, int registrations,
+                    LocalDateTime updatedAt) {
+
+        static Counters of(EventDTO event) {
+            return new Counters(event.getCategory(), event.getStatus(),
+                    valueOf(event.getMaxCapacity()), valueOf(event.getCurrentRegistrations()), event.getUpdatedAt());
+        }
+
+        static Counters of(EventRepository.EventCounters event) {
+            return new Counters(event.getCategory(), event.getStatus(),
+                    valueOf(event.getMaxCapacity()), valueOf(event.getCurrentRegistrations()), event.getUpdatedAt());
+        }
+
+        /**
+         * Os mesmos valores com mais uma inscrição, feita em at
+         */
+        Counters plusRegistration(LocalDateTime at) {
+            LocalDateTime latest = updatedAt == null || (at != null && at.isAfter(updatedAt)) ? at : updatedAt;
+            return new Counters(category, status, maxCapacity, registrations + 1, latest);
+        }
+
+        boolean isNewerThan(Counters other) {
+            return updatedAt != null && other.updatedAt != null && updatedAt.isAfter(other.updatedAt);
+        }
+
+        private static int valueOf(Integer value) {
+            return value != null ? value : 0;
+        }
+
+        int occupancyBucket() {
+            if (registrations <= 0) {
+                return 0;
+            }
+            if (registrations >= maxCapacity) {
+                return OCCUPANCY_BUCKETS.length - 1;
+            }
+            long percentage = (long) registrations * 100 / maxCapacity;
+            return percentage <= 25 ? 1 : percentage <= 50 ? 2 : percentage <= 75 ? 3 : 4;
+        }
+    }
+
+    /**
+     * Somas de todas as contribuições
+     */
+    static final class Totals {
+        long events;
+        long capacity;
+        long registrations;
+        final long[] byCategory = new long[EventCategory.values().length];
+        final long[] byStatus = new long[EventStatus.values().length];
+        final long[] byOccupancy = new long[OCCUPANCY_BUCKETS.length];
+
+        void add(Counters counters, int sign) {
+            events += sign;
+            capacity += (long) sign * counters.maxCapacity();
+            registrations += (long) sign * counters.registrations();
+            if (counters.category() != null) {
+                byCategory[counters.category().ordinal()] += sign;
+            }
+            if (counters.status() != null) {
+                byStatus[counters.status().ordinal()] += sign;
+            }
+            byOccupancy[counters.occupancyBucket()] += sign;
+        }
+
+        boolean sameAs(Totals other) {
+            return events == other.events && capacity == other.capacity && registrations == other.registrations
+                    && Arrays.equals(byCategory, other.byCategory)
+                    && Arrays.equals(byStatus, other.byStatus)
+                    && Arrays.equals(byOccupancy, other.byOccupancy);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long interval = properties.getReconcileInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::reconcile, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Resumo atual das estatísticas
+     */
+    public EventStatsDTO summary() {
+        if (!ready) {
+            throw new ServiceUnavailableException("Estatísticas em cálculo; tente novamente dentro de instantes");
+        }
+        lock.lock();
+        try {
+            if (summary == null) {
+                summary = buildSummary();
+            }
+            return summary;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        lock.lock();
+        try {
+            Counters next = next(change, entries.get(change.getEventId()));
+            Counters previous = next != null
+                    ? entries.put(change.getEventId(), next)
+                    : entries.remove(change.getEventId());
+            if (previous != null) {
+                totals.add(previous, -1);
+            }
+            if (next != null) {
+                totals.add(next, 1);
+            }
+            if (changedWhileReconciling != null) {
+                changedWhileReconciling.put(change.getEventId(), Optional.ofNullable(next));
+            }
+            summary = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Contribuição do evento depois da notificação (null se foi removido): uma inscrição
+     * soma 1 à guardada; um snapshot mais antigo do que o guardado não a substitui
+     */
+    private static Counters next(EventChangedEvent change, Counters previous) {
+        EventDTO snapshot = change.getSnapshot();
+        if (snapshot == null) {
+            return null;
+        }
+        Counters candidate = Counters.of(snapshot);
+        if (previous == null) {
+            return candidate;
+        }
+        if (change.getType() == EventChangedEvent.ChangeType.REGISTERED) {
+            return previous.plusRegistration(candidate.updatedAt());
+        }
+        return previous.isNewerThan(candidate) ? previous : candidate;
+    }
+
+    /**
+     * Recalcula os agregados a partir da base de dados e corrige desvios
+     */
+    void reconcile() {
+        long startedAt = System.nanoTime();
+        lock.lock();
+        try {
+            changedWhileReconciling = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Map<Long, Counters> loaded = new HashMap<>();
+            long afterId = 0;
+            List<EventRepository.EventCounters> chunk;
+            do {
+                chunk = eventRepository.findCountersByIdGreaterThanOrderByIdAsc(afterId, Limit.of(RECONCILE_CHUNK));
+                for (EventRepository.EventCounters event : chunk) {
+                    loaded.put(event.getId(), Counters.of(event));
+                    afterId = event.getId();
+                }
+            } while (chunk.size() == RECONCILE_CHUNK);
+
+            lock.lock();
+            try {
+                changedWhileReconciling.forEach((eventId, counters) -> {
+                    if (counters.isPresent()) {
+                        loaded.put(eventId, counters.get());
+                    } else {
+                        loaded.remove(eventId);
+                    }
+                });
+                Totals recalculated = new Totals();
+                loaded.values().forEach(counters -> recalculated.add(counters, 1));
+                if (ready && !recalculated.sameAs(totals)) {
+                    log.warn("Estatísticas corrigidas na reconciliação: eventos {} -> {}, inscrições {} -> {}",
+                            totals.events, recalculated.events, totals.registrations, recalculated.registrations);
+                }
+                entries = loaded;
+                totals = recalculated;
+                reconciledAt = LocalDateTime.now();
+                summary = null;
+                ready = true;
+            } finally {
+                lock.unlock();
+            }
+            log.debug("Estatísticas reconciliadas: {} eventos em {} ms",
+                    loaded.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (RuntimeException ex) {
+            log.error("Falha na reconciliação das estatísticas de eventos", ex);
+        } finally {
+            lock.lock();
+            try {
+                changedWhileReconciling = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private EventStatsDTO buildSummary() {
+        Map<EventCategory, Long> byCategory = new EnumMap<>(EventCategory.class);
+        for (EventCategory category : EventCategory.values()) {
+            byCategory.put(category, totals.byCategory[category.ordinal()]);
+        }
+        Map<EventStatus, Long> byStatus = new EnumMap<>(EventStatus.class);
+        for (EventStatus status : EventStatus.values()) {
+            byStatus.put(status, totals.byStatus[status.ordinal()]);
+        }
+        Map<String, Long> occupancy = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < OCCUPANCY_BUCKETS.length; bucket++) {
+            occupancy.put(OCCUPANCY_BUCKETS[bucket], totals.byOccupancy[bucket]);
+        }
+        double percentage = totals.capacity > 0 ? totals.registrations * 100.0 / totals.capacity : 0.0;
+        return EventStatsDTO.builder()
+                .totalEvents(totals.events)
+                .totalCapacity(totals.capacity)
+                .totalRegistrations(totals.registrations)
+                .occupancyPercentage(percentage)
+                .byCategory(Collections.unmodifiableMap(byCategory))
+                .byStatus(Collections.unmodifiableMap(byStatus))
+                .occupancyDistribution(Collections.unmodifiableMap(occupancy))
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+}
@@ -0,0 +1,285 @@
+package mz.uem.events.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.config.EventStatusProperties;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.repository.EventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Transições automáticas de status: UPCOMING → ONGOING em eventDate e
+ * ONGOING → COMPLETED em eventDate + default-duration.
+ *
+ * As próximas transições ficam numa fila de prioridade em memória, limitada à janela
+ * (horizon) seguinte; a thread do agendador acorda apenas no instante da primeira
+ * transição pendente ou quando é preciso carregar a janela seguinte, sem percorrer
+ * a tabela a intervalos fixos. As transições vencidas são aplicadas com UPDATEs em
+ * lote e notificadas como UPDATED (cache, pesquisa, feed SSE).
+ *
+ * No arranque a janela é reconstruída a partir da base de dados, e as transições
+ * que venceram enquanto a aplicação estava parada são aplicadas de imediato.
+ */
+@Component
+@ConditionalOnProperty(prefix = "uem.events.status", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class EventStatusScheduler {
+
+    private static final int UPDATE_CHUNK = 500;
+
+    private static final Set<EventStatus> SCHEDULED_STATUSES = Set.of(EventStatus.UPCOMING, EventStatus.ONGOING);
+
+    private final EventStatusProperties properties;
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Transition> queue = new PriorityQueue<>(Comparator.comparing(Transition::at));
+    // Transição em vigor de cada evento; entradas da fila que já não coincidem são ignoradas
+    private final Map<Long, Transition> current = new HashMap<>();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "event-status-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private LocalDateTime loadedUntil;
+    private ScheduledFuture<?> wakeUp;
+    private LocalDateTime wakeUpAt;
+
+    public EventStatusScheduler(EventStatusProperties properties, EventRepository eventRepository, EventMapper eventMapper,
+                                TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher) {
+        this.properties = properties;
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Transição agendada de um evento para um status
+     */
+    record Transition(Long eventId, LocalDateTime at, EventStatus to) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.execute(this::run);
+        log.info("Transições automáticas de status ativas (duração por omissão {}, janela {})",
+                properties.getDefaultDuration(), properties.getHorizon());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Mantém a fila coerente com as alterações feitas pela API e pela importação
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getType() == EventChangedEvent.ChangeType.REGISTERED) {
+            return;
+        }
+        EventDTO snapshot = change.getSnapshot();
+        lock.lock();
+        try {
+            if (loadedUntil == null) {
+                // Ainda não arrancou; a carga inicial lê o estado da base de dados
+                return;
+            }
+            current.remove(change.getEventId());
+            if (snapshot != null) {
+                schedule(change.getEventId(), snapshot.getEventDate(), snapshot.getStatus());
+            }
+        } finally {
+            lock.unlock();
+        }
+        wakeUpIfEarlier();
+    }
+
+    /**
+     * Número de transições agendadas em memória
+     */
+    public int scheduledCount() {
+        lock.lock();
+        try {
+            return current.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (loadedUntil == null || !now.plus(properties.getHorizon().dividedBy(2)).isBefore(loadedUntil)) {
+                load(now.plus(properties.getHorizon()));
+            }
+            applyDue(now);
+        } catch (RuntimeException ex) {
+            log.error("Falha ao aplicar transições de status; nova tentativa em 30 s", ex);
+            scheduleWakeUp(LocalDateTime.now().plusSeconds(30));
+            return;
+        }
+        scheduleNextWakeUp();
+    }
+
+    /**
+     * Carrega as transições dos eventos até until (consulta pelo índice status + data)
+     */
+    private void load(LocalDateTime until) {
+        // Eventos ONGOING terminam depois de eventDate; o limite de data cobre o fim da janela
+        List<EventRepository.EventSchedule> events = eventRepository.findScheduleByStatusInAndEventDateBefore(
+                SCHEDULED_STATUSES, until);
+        lock.lock();
+        try {
+            loadedUntil = until;
+            for (EventRepository.EventSchedule event : events) {
+                if (!current.containsKey(event.getId())) {
+                    schedule(event.getId(), event.getEventDate(), event.getStatus());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Janela de transições carregada até {}: {} evento(s)", until, events.size());
+    }
+
+    /**
+     * Agenda a próxima transição do evento, se couber na janela carregada (chamar com o lock)
+     */
+    private void schedule(Long eventId, LocalDateTime eventDate, EventStatus status) {
+        if (eventDate == null) {
+            return;
+        }
+        Transition transition = switch (status) {
+            case UPCOMING -> new Transition(eventId, eventDate, EventStatus.ONGOING);
+            case ONGOING -> new Transition(eventId, eventDate.plus(properties.getDefaultDuration()), EventStatus.COMPLETED);
+            default -> null;
+        };
+        if (transition != null && transition.at().isBefore(loadedUntil)) {
+            current.put(eventId, transition);
+            queue.add(transition);
+        }
+    }
+
+    private void applyDue(LocalDateTime now) {
+        Map<EventStatus, List<Long>> due = new EnumMap<>(EventStatus.class);
+        lock.lock();
+        try {
+            while (!queue.isEmpty() && !queue.peek().at().isAfter(now)) {
+                Transition transition = queue.poll();
+                if (current.get(transition.eventId()) == transition) {
+                    current.remove(transition.eventId());
+                    due.computeIfAbsent(transition.to(), status -> new ArrayList<>()).add(transition.eventId());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        // COMPLETED primeiro: um evento vencido nas duas transições não volta a ONGOING
+        apply(due.getOrDefault(EventStatus.COMPLETED, List.of()), EventStatus.COMPLETED, now);
+        apply(due.getOrDefault(EventStatus.ONGOING, List.of()), EventStatus.ONGOING, now);
+    }
+
+    private void apply(List<Long> ids, EventStatus to, LocalDateTime now) {
+        Set<EventStatus> from = to == EventStatus.COMPLETED ? SCHEDULED_STATUSES : Set.of(EventStatus.UPCOMING);
+        LocalDateTime dueBy = to == EventStatus.COMPLETED ? now.minus(properties.getDefaultDuration()) : now;
+        for (int start = 0; start < ids.size(); start += UPDATE_CHUNK) {
+            List<Long> chunk = ids.subList(start, Math.min(start + UPDATE_CHUNK, ids.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                int updated = eventRepository.transitionStatus(chunk, from, to, dueBy, now);
+                if (updated == 0) {
+                    return;
+                }
+                // Notificações publicadas na transação, entregues aos listeners depois do commit
+                for (Event event : eventRepository.findAllById(chunk)) {
+                    if (event.getStatus() == to) {
+                        EventDTO snapshot = eventMapper.toDTO(event);
+                        eventPublisher.publishEvent(
+                                new EventChangedEvent(event.getId(), EventChangedEvent.ChangeType.UPDATED, snapshot));
+                    }
+                }
+                log.info("{} evento(s) passaram a {}", updated, to);
+            });
+        }
+    }
+
+    private void scheduleNextWakeUp() {
+        LocalDateTime next;
+        lock.lock();
+        try {
+            next = loadedUntil.minus(properties.getHorizon().dividedBy(2));
+            Transition head = queue.peek();
+            if (head != null && head.at().isBefore(next)) {
+                next = head.at();
+            }
+            wakeUpAt = null;
+        } finally {
+            lock.unlock();
+        }
+        scheduleWakeUp(next);
+    }
+
+    /**
+     * Antecipa o despertar se a primeira transição pendente passou a ser mais cedo
+     */
+    private void wakeUpIfEarlier() {
+        Transition head;
+        lock.lock();
+        try {
+            head = queue.peek();
+        } finally {
+            lock.unlock();
+        }
+        if (head != null) {
+            scheduleWakeUp(head.at());
+        }
+    }
+
+    private void scheduleWakeUp(LocalDateTime at) {
+        lock.lock();
+        try {
+            if (wakeUpAt != null && !at.isBefore(wakeUpAt)) {
+                return;
+            }
+            if (wakeUp != null) {
+                wakeUp.cancel(false);
+            }
+            long delay = Math.max(0, Duration.between(LocalDateTime.now(), at).toMillis());
+            wakeUpAt = at;
+            wakeUp = executor.schedule(this::run, delay, TimeUnit.MILLISECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package mz.uem.events.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de texto para pesquisa: remove acentos ("Seminário" = "seminario"),
+ * converte para minúsculas e divide em termos, ignorando palavras muito comuns.
+ */
+final class EventTextAnalyzer {
+    
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "o", "e", "as", "os", "ao", "aos", "de", "da", "do", "das", "dos",
+            "em", "no", "na", "nos", "nas", "um", "uma", "para", "por", "com", "que", "se",
+            "the", "and", "of");
+    
+    private EventTextAnalyzer() {
+    }
+    
+    /**
+     * Texto sem acentos e em minúsculas
+     */
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Termos do texto, pela ordem em que aparecem (com repetições)
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (token.isEmpty() || STOP_WORDS.contains(token)) {
+                continue;
+            }
+            if (token.length() == 1 && !Character.isDigit(token.charAt(0))) {
+                continue;
+            }
+            terms.add(token);
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,377 @@
+package mz.uem.events.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.config.EventStreamProperties;
+import mz.uem.events.dto.EventCapacityUpdate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feed SSE de alterações de vagas e status dos eventos.
+ *
+ * As alterações (inscrição, atualização, remoção) são agregadas por evento durante
+ * coalesce-interval e só o estado mais recente segue para os subscritores: um pico
+ * de centenas de inscrições por segundo num evento resulta em poucas mensagens.
+ *
+ * Cada ligação é um pedido assíncrono do servlet, sem thread própria, e as escritas são
+ * não bloqueantes (WriteListener): só se escreve enquanto a saída aceita dados, e o que
+ * não couber fica pendente no subscritor, agregado por evento, até o contentor avisar
+ * que pode continuar. Nenhuma thread fica presa num cliente lento; um subscritor cuja
+ * saída não aceita dados há mais de write-timeout é desligado.
+ */
+@Component
+@Slf4j
+public class EventUpdateFeed {
+
+    private static final String UPDATE_EVENT = "capacity";
+    private static final byte[] KEEP_ALIVE = ": keep-alive\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final EventStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // Alterações ainda não enviadas, agregadas por evento
+    private final Map<Long, EventCapacityUpdate> pending = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ScheduledExecutorService scheduler;
+    private Counter sentUpdates;
+    private Counter evictedSubscribers;
+
+    public EventUpdateFeed(EventStreamProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "event-stream-publisher"));
+
+        long coalesce = properties.getCoalesceInterval().toMillis();
+        long heartbeat = properties.getHeartbeatInterval().toMillis();
+        long stallCheck = Math.max(100, properties.getWriteTimeout().toMillis() / 4);
+        scheduler.scheduleWithFixedDelay(this::publishPending, coalesce, coalesce, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::evictStalled, stallCheck, stallCheck, TimeUnit.MILLISECONDS);
+
+        meterRegistry.gauge("events.stream.subscribers", subscriberCount);
+        sentUpdates = Counter.builder("events.stream.updates")
+                .description("Atualizações agregadas publicadas no feed SSE")
+                .register(meterRegistry);
+        evictedSubscribers = Counter.builder("events.stream.evicted")
+                .description("Subscritores desligados por não aceitarem dados dentro de write-timeout")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+    }
+
+    /**
+     * Abre uma subscrição no pedido; eventIds limita o feed a esses eventos (null ou vazio:
+     * todos). Devolve false, sem tocar na resposta, quando o limite de subscritores foi atingido.
+     */
+    public boolean subscribe(Set<Long> eventIds, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            log.warn("Subscrição do feed recusada: limite de {} subscritores atingido", properties.getMaxSubscribers());
+            return false;
+        }
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        AsyncContext async = request.startAsync();
+        async.setTimeout(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(async, response.getOutputStream(),
+                eventIds == null || eventIds.isEmpty() ? null : Set.copyOf(eventIds));
+        async.addListener(subscriber);
+        subscribers.add(subscriber);
+        subscriber.out.setWriteListener(subscriber);
+
+        // Primeira mensagem imediata, para que o cliente saiba que a ligação está aberta
+        subscriber.offerHeartbeat();
+        return true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        EventCapacityUpdate update;
+        switch (change.getType()) {
+            case REGISTERED, UPDATED -> {
+                if (change.getSnapshot() == null) {
+                    return;
+                }
+                update = EventCapacityUpdate.of(change.getSnapshot());
+            }
+            case DELETED -> update = EventCapacityUpdate.deleted(change.getEventId());
+            default -> {
+                return;
+            }
+        }
+        pending.merge(change.getEventId(), update, EventUpdateFeed::latest);
+    }
+
+    /**
+     * Número de subscritores ligados
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Das duas atualizações do mesmo evento, a que reflete o estado mais recente.
+     * Inscrições concorrentes podem notificar fora de ordem; a remoção prevalece sempre.
+     */
+    private static EventCapacityUpdate latest(EventCapacityUpdate current, EventCapacityUpdate candidate) {
+        if (current.getChange() == EventCapacityUpdate.Change.DELETED) {
+            return current;
+        }
+        if (candidate.getChange() == EventCapacityUpdate.Change.DELETED) {
+            return candidate;
+        }
+        LocalDateTime currentAt = current.getUpdatedAt();
+        LocalDateTime candidateAt = candidate.getUpdatedAt();
+        if (currentAt != null && candidateAt != null && !currentAt.equals(candidateAt)) {
+            return candidateAt.isAfter(currentAt) ? candidate : current;
+        }
+        if (Objects.equals(current.getMaxCapacity(), candidate.getMaxCapacity())
+                && current.getStatus() == candidate.getStatus()
+                && current.getCurrentRegistrations() != null && candidate.getCurrentRegistrations() != null) {
+            return candidate.getCurrentRegistrations() >= current.getCurrentRegistrations() ? candidate : current;
+        }
+        return candidate;
+    }
+
+    private void publishPending() {
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Map.Entry<Long, byte[]>> frames = new ArrayList<>();
+            for (Long eventId : List.copyOf(pending.keySet())) {
+                EventCapacityUpdate update = pending.remove(eventId);
+                if (update != null) {
+                    // Mensagem SSE codificada uma vez para todos os subscritores
+                    frames.add(Map.entry(eventId, frame(objectMapper.writeValueAsString(update))));
+                }
+            }
+            sentUpdates.increment(frames.size());
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(frames);
+            }
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.error("Falha ao publicar atualizações no feed de eventos", ex);
+        }
+    }
+
+    private static byte[] frame(String json) {
+        StringBuilder frame = new StringBuilder("event: ").append(UPDATE_EVENT).append('\n');
+        for (String line : json.split("\n", -1)) {
+            frame.append("data: ").append(line).append('\n');
+        }
+        return frame.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void heartbeat() {
+        subscribers.forEach(Subscriber::offerHeartbeat);
+    }
+
+    /**
+     * Desliga os subscritores cuja saída não aceita dados há mais de write-timeout
+     */
+    private void evictStalled() {
+        long deadline = System.nanoTime() - properties.getWriteTimeout().toNanos();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.isStalledSince(deadline)) {
+                log.info("Subscritor do feed desligado: saída sem aceitar dados há mais de {}", properties.getWriteTimeout());
+                evictedSubscribers.increment();
+                subscriber.close();
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Uma ligação: atualizações pendentes por evento, escritas enquanto a saída as aceitar.
+     * Os blocos synchronized só fazem escritas não bloqueantes (a saída está pronta).
+     */
+    private final class Subscriber implements WriteListener, AsyncListener {
+        private final AsyncContext async;
+        private final ServletOutputStream out;
+        private final Set<Long> eventIds;
+        private final Map<Long, byte[]> queued = new LinkedHashMap<>();
+        private boolean heartbeatQueued;
+        private boolean closed;
+        // Instante (nanoTime) em que a saída deixou de aceitar dados; 0 enquanto aceita
+        private long stalledSince;
+
+        private Subscriber(AsyncContext async, ServletOutputStream out, Set<Long> eventIds) {
+            this.async = async;
+            this.out = out;
+            this.eventIds = eventIds;
+        }
+
+        private void offer(List<Map.Entry<Long, byte[]>> frames) {
+            synchronized (this) {
+                for (Map.Entry<Long, byte[]> frame : frames) {
+                    if (eventIds == null || eventIds.contains(frame.getKey())) {
+                        queued.put(frame.getKey(), frame.getValue());
+                    }
+                }
+                write();
+            }
+        }
+
+        private void offerHeartbeat() {
+            synchronized (this) {
+                heartbeatQueued = true;
+                write();
+            }
+        }
+
+        @Override
+        public void onWritePossible() {
+            synchronized (this) {
+                write();
+            }
+        }
+
+        /**
+         * Escreve o pendente enquanto a saída estiver pronta; se deixar de estar, o resto
+         * fica em queued e o contentor chama onWritePossible quando puder continuar
+         */
+        private void write() {
+            if (closed) {
+                return;
+            }
+            try {
+                boolean written = false;
+                while (out.isReady()) {
+                    byte[] next = next();
+                    if (next == null) {
+                        if (!written) {
+                            stalledSince = 0;
+                            return;
+                        }
+                        out.flush();
+                        written = false;
+                        continue;
+                    }
+                    out.write(next);
+                    written = true;
+                }
+                if (stalledSince == 0) {
+                    stalledSince = System.nanoTime();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Ligação fechada pelo cliente ou já terminada
+                close();
+            }
+        }
+
+        private byte[] next() {
+            if (heartbeatQueued) {
+                heartbeatQueued = false;
+                return KEEP_ALIVE;
+            }
+            Iterator<byte[]> frames = queued.values().iterator();
+            if (!frames.hasNext()) {
+                return null;
+            }
+            byte[] frame = frames.next();
+            frames.remove();
+            return frame;
+        }
+
+        private synchronized boolean isStalledSince(long deadline) {
+            return !closed && stalledSince != 0 && stalledSince - deadline < 0;
+        }
+
+        private void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queued.clear();
+            }
+            remove(this);
+            try {
+                async.complete();
+            } catch (IllegalStateException ex) {
+                // Pedido já terminado pelo contentor
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package mz.uem.events.service;
+
+import mz.uem.events.dto.EventCardDTO;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.dto.EventFieldSet;
+import mz.uem.events.dto.EventSparseCard;
+import mz.uem.events.dto.EventVersion;
+import mz.uem.events.repository.EventRepository.EventStamp;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Cálculo de ETags a partir de (id, updatedAt, vagas disponíveis) de cada evento.
+ * 
+ * Os mesmos valores existem nos DTOs (respostas completas) e na projeção
+ * EventStamp (pedidos condicionais), por isso os dois caminhos produzem o mesmo
+ * ETag e um 304 pode ser decidido sem carregar entidades.
+ */
+public final class EventVersions {
+    
+    private EventVersions() {
+    }
+    
+    public static EventVersion of(EventDTO event) {
+        String etag = etag(row(new StringBuilder(), event.getId(), event.getUpdatedAt(), event.getAvailableCapacity()));
+        return new EventVersion(etag, truncate(event.getUpdatedAt()));
+    }
+    
+    public static EventVersion of(EventStamp stamp) {
+        String etag = etag(row(new StringBuilder(), stamp.getId(), stamp.getUpdatedAt(), available(stamp)));
+        return new EventVersion(etag, truncate(stamp.getUpdatedAt()));
+    }
+    
+    public static EventVersion ofCards(Page<EventCardDTO> page) {
+        StringBuilder value = new StringBuilder().append(page.getTotalElements());
+        for (EventCardDTO card : page.getContent()) {
+            row(value, card.getId(), card.getUpdatedAt(), card.getAvailableCapacity());
+        }
+        return new EventVersion(etag(value), null);
+    }
+    
+    /**
+     * Versão de uma página com campos selecionados; difere da do card completo
+     */
+    public static EventVersion ofSparseCards(Page<EventSparseCard> page, EventFieldSet fields) {
+        StringBuilder value = new StringBuilder().append(page.getTotalElements());
+        for (EventSparseCard card : page.getContent()) {
+            row(value, card.getEventId(), card.getUpdatedAt(), card.getAvailableCapacity());
+        }
+        return withFields(new EventVersion(etag(value), null), fields);
+    }
+    
+    /**
+     * Versão da representação com os campos indicados, a partir da versão do card completo
+     */
+    public static EventVersion withFields(EventVersion version, EventFieldSet fields) {
+        return new EventVersion(etag(version.getEtag() + "|" + fields.signature()), version.getLastModified());
+    }
+    
+    /**
+     * Versão da representação num formato binário (CBOR, Smile), cujos bytes diferem dos
+     * do JSON; o JSON mantém o ETag base
+     */
+    public static EventVersion withMediaType(EventVersion version, MediaType mediaType) {
+        if (mediaType == null || MediaType.APPLICATION_JSON.equalsTypeAndSubtype(mediaType)) {
+            return version;
+        }
+        return new EventVersion(etag(version.getEtag() + "|" + mediaType.getSubtype()), version.getLastModified());
+    }
+    
+    public static EventVersion ofStamps(Page<EventStamp> page) {
+        StringBuilder value = new StringBuilder().append(page.getTotalElements());
+        for (EventStamp stamp : page.getContent()) {
+            row(value, stamp.getId(), stamp.getUpdatedAt(), available(stamp));
+        }
+        return new EventVersion(etag(value), null);
+    }
+    
+    private static int available(EventStamp stamp) {
+        return stamp.getMaxCapacity() - stamp.getCurrentRegistrations();
+    }
+    
+    private static StringBuilder row(StringBuilder value, Long id, LocalDateTime updatedAt, Integer available) {
+        return value.append('|').append(id).append(':').append(truncate(updatedAt)).append(':').append(available);
+    }
+    
+    /**
+     * A base de dados pode guardar menos precisão do que o LocalDateTime em memória
+     */
+    private static LocalDateTime truncate(LocalDateTime value) {
+        return value == null ? null : value.truncatedTo(ChronoUnit.MILLIS);
+    }
+    
+    private static String etag(CharSequence value) {
+        return "\"" + DigestUtils.md5DigestAsHex(value.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
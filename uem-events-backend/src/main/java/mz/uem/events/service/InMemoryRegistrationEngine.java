@@ -0,0 +1,282 @@
+package mz.uem.events.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.config.RegistrationProperties;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.entity.RegistrationCheckpoint;
+import mz.uem.events.exception.BusinessException;
+import mz.uem.events.exception.ResourceNotFoundException;
+import mz.uem.events.repository.EventRepository;
+import mz.uem.events.repository.RegistrationCheckpointRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inscrições admitidas em memória (uem.events.registration.mode=memory)
+ *
+ * Cada evento tem um contador de vagas restantes decrementado por CAS, sem
+ * acesso à base de dados. As inscrições admitidas são gravadas no
+ * {@link RegistrationJournal} e aplicadas a currentRegistrations em lote a cada
+ * flush-interval, juntamente com o checkpoint da última entrada aplicada.
+ * No arranque, as entradas posteriores ao checkpoint são reproduzidas.
+ *
+ * Os contadores pertencem a esta instância: o modo só é seguro com uma única
+ * instância a aceitar inscrições para cada evento. Leituras de eventos podem
+ * mostrar currentRegistrations atrasado até um flush-interval.
+ */
+@Service
+@ConditionalOnProperty(prefix = "uem.events.registration", name = "mode", havingValue = "memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryRegistrationEngine implements RegistrationEngine {
+
+    private final EventRepository eventRepository;
+    private final RegistrationCheckpointRepository checkpointRepository;
+    private final EventMapper eventMapper;
+    private final RegistrationProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, CapacitySlot> slots = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicLong retirements = new AtomicLong();
+
+    private RegistrationJournal journal;
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    void start() throws IOException {
+        journal = new RegistrationJournal(properties.getJournalDirectory(), properties.isSyncOnWrite());
+        replayJournal();
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "registration-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Inscrições em memória ativas (jornal: {}, flush a cada {} ms)",
+                properties.getJournalDirectory().toAbsolutePath(), interval);
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+        journal.close();
+    }
+
+    @Override
+    public EventDTO register(Long eventId) {
+        while (true) {
+            CapacitySlot slot = slot(eventId);
+            if (slot == null) {
+                continue;
+            }
+            ReentrantReadWriteLock.ReadLock readLock = slot.lock.readLock();
+            readLock.lock();
+            try {
+                if (slot.retired) {
+                    continue;
+                }
+                if (slot.snapshot.getStatus() != EventStatus.UPCOMING) {
+                    throw new BusinessException("Apenas eventos próximos aceitam inscrições");
+                }
+                int remaining = slot.reserve();
+                if (remaining < 0) {
+                    throw new IllegalStateException("Evento lotado - sem vagas disponíveis");
+                }
+                try {
+                    journal.append(eventId);
+                } catch (RuntimeException ex) {
+                    slot.remaining.incrementAndGet();
+                    throw ex;
+                }
+                return eventMapper.withRegistrations(slot.snapshot, slot.snapshot.getMaxCapacity() - remaining);
+            } finally {
+                readLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Descarta o contador de um evento alterado ou removido; o próximo pedido recarrega-o
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getType() == EventChangedEvent.ChangeType.UPDATED
+                || change.getType() == EventChangedEvent.ChangeType.DELETED) {
+            retire(change.getEventId());
+        }
+    }
+
+    /**
+     * Aplica à base de dados as inscrições pendentes do jornal
+     */
+    public void flush() throws IOException {
+        flushLock.lock();
+        try {
+            RegistrationJournal.Batch batch = journal.drain();
+            if (batch == null) {
+                return;
+            }
+            try {
+                applyBatch(batch.getCounts(), batch.getLastSequence());
+            } catch (RuntimeException ex) {
+                journal.requeue(batch);
+                throw ex;
+            }
+            journal.release(batch);
+            log.debug("{} evento(s) atualizados a partir do jornal (sequência {})",
+                    batch.getCounts().size(), batch.getLastSequence());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception ex) {
+            log.error("Falha ao aplicar o jornal de inscrições; nova tentativa no próximo ciclo", ex);
+        }
+    }
+
+    private void replayJournal() throws IOException {
+        long checkpoint = checkpointRepository.findById(properties.getNodeId())
+                .map(RegistrationCheckpoint::getLastSequence)
+                .orElse(0L);
+        RegistrationJournal.Recovery recovery = journal.recover(checkpoint);
+
+        if (!recovery.getCounts().isEmpty()) {
+            int total = recovery.getCounts().values().stream().mapToInt(Integer::intValue).sum();
+            log.info("Reproduzindo {} inscrição(ões) do jornal (checkpoint {})", total, checkpoint);
+            applyBatch(recovery.getCounts(), recovery.getLastSequence());
+        }
+        journal.release(new RegistrationJournal.Batch(recovery.getCounts(), recovery.getLastSequence(), recovery.getSegments()));
+        journal.open(recovery.getLastSequence());
+    }
+
+    private void applyBatch(Map<Long, Integer> counts, long lastSequence) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            counts.forEach((eventId, count) -> eventRepository.addRegistrations(eventId, count, now));
+            checkpointRepository.save(RegistrationCheckpoint.builder()
+                    .nodeId(properties.getNodeId())
+                    .lastSequence(lastSequence)
+                    .updatedAt(now)
+                    .build());
+        });
+    }
+
+    /**
+     * Contador do evento, carregado fora do mapa: computeIfAbsent faria a consulta com o
+     * lock do bin do ConcurrentHashMap (synchronized), prendendo a virtual thread ao carrier
+     * e bloqueando as outras chaves do mesmo bin. Dois pedidos podem carregar o mesmo
+     * evento; fica o primeiro a entrar no mapa.
+     *
+     * @return null se o evento foi alterado durante a carga (o contador carregado pode
+     *         estar desatualizado e foi descartado); o chamador volta a tentar
+     */
+    private CapacitySlot slot(Long eventId) {
+        CapacitySlot slot = slots.get(eventId);
+        if (slot != null) {
+            return slot;
+        }
+        long retiredBefore = retirements.get();
+        CapacitySlot loaded = loadSlot(eventId);
+        CapacitySlot existing = slots.putIfAbsent(eventId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        if (retirements.get() != retiredBefore) {
+            retire(eventId);
+            return null;
+        }
+        return loaded;
+    }
+
+    private CapacitySlot loadSlot(Long eventId) {
+        // O flushLock garante que as inscrições pendentes não estão a meio de ser aplicadas
+        flushLock.lock();
+        try {
+            EventDTO event = transactionTemplate.execute(status -> eventRepository.findById(eventId)
+                    .map(eventMapper::toDTO)
+                    .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", eventId)));
+            int registrations = event.getCurrentRegistrations() + journal.pending(eventId);
+            return new CapacitySlot(eventMapper.withRegistrations(event, registrations),
+                    event.getMaxCapacity() - registrations);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void retire(Long eventId) {
+        retirements.incrementAndGet();
+        CapacitySlot slot = slots.get(eventId);
+        if (slot == null) {
+            return;
+        }
+        // O write lock espera pelas reservas em curso neste contador
+        slot.lock.writeLock().lock();
+        try {
+            slot.retired = true;
+        } finally {
+            slot.lock.writeLock().unlock();
+        }
+        slots.remove(eventId, slot);
+    }
+
+    /**
+     * Vagas restantes de um evento e o seu estado no momento da carga
+     */
+    private static final class CapacitySlot {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final EventDTO snapshot;
+        private final AtomicInteger remaining;
+        private boolean retired;
+
+        private CapacitySlot(EventDTO snapshot, int remaining) {
+            this.snapshot = snapshot;
+            this.remaining = new AtomicInteger(remaining);
+        }
+
+        /**
+         * Reserva uma vaga e devolve as vagas restantes, ou -1 se o evento estiver lotado
+         */
+        private int reserve() {
+            while (true) {
+                int current = remaining.get();
+                if (current <= 0) {
+                    return -1;
+                }
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return current - 1;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package mz.uem.events.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.config.AdmissionProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Controlo de admissão dos pedidos de inscrição: um token bucket por evento e um global.
+ *
+ * Cada bucket é um único AtomicLong com o instante teórico da próxima chegada (GCRA,
+ * equivalente a um token bucket com ritmo rate e capacidade burst), atualizado por CAS,
+ * sem locks nem threads de reposição. O bucket do evento é consultado primeiro, para que
+ * um evento quente seja travado sem consumir a quota global; se o global recusar, o
+ * token do evento é devolvido.
+ *
+ * Os limites ficam num objeto imutável substituído de uma vez (volatile), pelo que uma
+ * alteração em execução vale a partir do pedido seguinte. Os limites próprios de um
+ * evento sobrepõem-se aos gerais.
+ */
+@Component
+@Slf4j
+public class RegistrationAdmission {
+
+    private static final long ORIGIN = System.nanoTime();
+
+    /**
+     * Ritmo (pedidos por segundo) e rajada máxima de um bucket
+     */
+    public record Limit(double rate, int burst) {
+
+        public Limit {
+            if (!(rate > 0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("O ritmo deve ser positivo");
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("A rajada deve ser pelo menos 1");
+            }
+        }
+
+        long intervalNanos() {
+            return Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+        }
+    }
+
+    /**
+     * Limites em vigor
+     */
+    public record Limits(boolean enabled, Limit global, Limit perEvent, Map<Long, Limit> eventOverrides) {
+    }
+
+    /**
+     * Limites em vigor e eventos acompanhados (resposta de /actuator/admission)
+     */
+    public record Snapshot(Limits limits, long trackedEvents) {
+    }
+
+    private final TokenBucket global = new TokenBucket();
+    private final Cache<Long, TokenBucket> events;
+    private volatile Limits limits;
+
+    private final Counter admitted;
+    private final Counter shedByEvent;
+    private final Counter shedGlobally;
+
+    public RegistrationAdmission(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.limits = new Limits(properties.isEnabled(),
+                new Limit(properties.getGlobalRate(), properties.getGlobalBurst()),
+                new Limit(properties.getEventRate(), properties.getEventBurst()),
+                Map.of());
+        // Um bucket parado há mais tempo do que leva a encher está cheio: descartá-lo não muda nada
+        this.events = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedEvents())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        admitted = counter(meterRegistry, "admitted", "none");
+        shedByEvent = counter(meterRegistry, "shed", "event");
+        shedGlobally = counter(meterRegistry, "shed", "global");
+        meterRegistry.gauge("events.admission.tracked", events, cache -> cache.estimatedSize());
+    }
+
+    /**
+     * Tenta admitir um pedido de inscrição no evento
+     *
+     * @return 0 se admitido; senão, nanossegundos até haver vaga no bucket que recusou
+     */
+    public long tryAdmit(Long eventId) {
+        Limits current = limits;
+        if (!current.enabled()) {
+            return 0;
+        }
+        long now = System.nanoTime() - ORIGIN;
+        Limit eventLimit = current.eventOverrides().getOrDefault(eventId, current.perEvent());
+        TokenBucket bucket = events.get(eventId, id -> new TokenBucket());
+
+        long wait = bucket.tryAcquire(now, eventLimit);
+        if (wait > 0) {
+            shedByEvent.increment();
+            return wait;
+        }
+        wait = global.tryAcquire(now, current.global());
+        if (wait > 0) {
+            bucket.release(eventLimit);
+            shedGlobally.increment();
+            return wait;
+        }
+        admitted.increment();
+        return 0;
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(limits, events.estimatedSize());
+    }
+
+    /**
+     * Altera os limites gerais; null mantém o valor atual
+     */
+    public synchronized Limits update(Boolean enabled, Double globalRate, Integer globalBurst,
+                                      Double eventRate, Integer eventBurst) {
+        Limits current = limits;
+        Limits next = new Limits(
+                enabled != null ? enabled : current.enabled(),
+                new Limit(globalRate != null ? globalRate : current.global().rate(),
+                        globalBurst != null ? globalBurst : current.global().burst()),
+                new Limit(eventRate != null ? eventRate : current.perEvent().rate(),
+                        eventBurst != null ? eventBurst : current.perEvent().burst()),
+                current.eventOverrides());
+        limits = next;
+        log.info("Limites de admissão alterados: {}", next);
+        return next;
+    }
+
+    /**
+     * Define limites próprios para um evento
+     */
+    public synchronized Limits setEventLimit(Long eventId, double rate, int burst) {
+        Map<Long, Limit> overrides = new ConcurrentHashMap<>(limits.eventOverrides());
+        overrides.put(eventId, new Limit(rate, burst));
+        return replaceOverrides(overrides);
+    }
+
+    /**
+     * Volta a aplicar os limites gerais a um evento
+     */
+    public synchronized Limits removeEventLimit(Long eventId) {
+        Map<Long, Limit> overrides = new ConcurrentHashMap<>(limits.eventOverrides());
+        overrides.remove(eventId);
+        return replaceOverrides(overrides);
+    }
+
+    private Limits replaceOverrides(Map<Long, Limit> overrides) {
+        Limits current = limits;
+        Limits next = new Limits(current.enabled(), current.global(), current.perEvent(), Map.copyOf(overrides));
+        limits = next;
+        log.info("Limites de admissão por evento alterados: {}", next.eventOverrides());
+        return next;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result, String scope) {
+        return Counter.builder("events.admission")
+                .description("Pedidos de inscrição admitidos e recusados pelo controlo de admissão")
+                .tag("result", result)
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Token bucket como GCRA: guarda só o instante teórico da próxima chegada
+     */
+    static final class TokenBucket {
+
+        private final AtomicLong theoreticalArrival = new AtomicLong();
+
+        /**
+         * @return 0 se havia token; senão, nanossegundos até haver
+         */
+        long tryAcquire(long now, Limit limit) {
+            long interval = limit.intervalNanos();
+            long tolerance = interval * (limit.burst() - 1);
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long start = Math.max(arrival, now);
+                long wait = start - tolerance - now;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, start + interval)) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Devolve um token obtido por um pedido que acabou recusado noutro bucket
+         */
+        void release(Limit limit) {
+            theoreticalArrival.addAndGet(-limit.intervalNanos());
+        }
+    }
+}
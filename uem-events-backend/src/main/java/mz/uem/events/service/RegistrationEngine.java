@@ -0,0 +1,14 @@
+package mz.uem.events.service;
+
+import mz.uem.events.dto.EventDTO;
+
+/**
+ * Estratégia de reserva de vagas usada por EventService.registerParticipant
+ */
+public interface RegistrationEngine {
+    
+    /**
+     * Reserva uma vaga no evento e devolve o estado atualizado
+     */
+    EventDTO register(Long eventId);
+}
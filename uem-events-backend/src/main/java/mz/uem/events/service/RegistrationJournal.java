@@ -0,0 +1,296 @@
+package mz.uem.events.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Jornal local, só de acréscimo, das inscrições admitidas em memória.
+ *
+ * Cada entrada tem 16 bytes (sequência e ID do evento). O jornal é dividido
+ * em segmentos: {@link #drain()} fecha o segmento atual e devolve as contagens
+ * pendentes; os segmentos só são apagados depois de a base de dados confirmar
+ * o lote com {@link #release(Batch)}.
+ *
+ * Dentro de um segmento as sequências são consecutivas a partir da indicada no
+ * nome do ficheiro. Uma escrita que falha é cortada do segmento; se nem isso for
+ * possível, a leitura no arranque para na primeira entrada fora da sequência em
+ * vez de a interpretar.
+ */
+@Slf4j
+public class RegistrationJournal implements Closeable {
+
+    private static final int RECORD_SIZE = 16;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final boolean syncOnWrite;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+
+    // Estado protegido por lock
+    private final Map<Long, Integer> pending = new HashMap<>();
+    private final List<Path> sealedSegments = new ArrayList<>();
+    private FileChannel channel;
+    private Path segment;
+    // Bytes do segmento atual com entradas completas
+    private long segmentSize;
+    // Uma escrita falhada deixou bytes por cortar depois de segmentSize
+    private boolean torn;
+    private long lastSequence;
+
+    public RegistrationJournal(Path directory, boolean syncOnWrite) {
+        this.directory = directory;
+        this.syncOnWrite = syncOnWrite;
+    }
+
+    /**
+     * Lê os segmentos existentes e agrega, por evento, as entradas posteriores ao checkpoint
+     */
+    public Recovery recover(long checkpoint) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = listSegments();
+        Map<Long, Integer> counts = new HashMap<>();
+        long maxSequence = checkpoint;
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 4096);
+        for (Path path : segments) {
+            long expected = firstSequence(path);
+            try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer.clear();
+                reading:
+                while (in.read(buffer) > 0 || buffer.position() > 0) {
+                    buffer.flip();
+                    while (buffer.remaining() >= RECORD_SIZE) {
+                        long sequence = buffer.getLong();
+                        long eventId = buffer.getLong();
+                        if (sequence != expected) {
+                            // Resto de uma escrita falhada: o que se segue está desalinhado
+                            log.warn("Jornal {}: sequência {} onde se esperava {}; resto do segmento ignorado",
+                                    path.getFileName(), sequence, expected);
+                            break reading;
+                        }
+                        expected++;
+                        if (sequence > checkpoint) {
+                            counts.merge(eventId, 1, Integer::sum);
+                        }
+                        maxSequence = Math.max(maxSequence, sequence);
+                    }
+                    if (buffer.hasRemaining() && in.position() == in.size()) {
+                        // Entrada incompleta no fim do segmento (escrita interrompida): descartada
+                        log.warn("Entrada incompleta ignorada no jornal {}", path.getFileName());
+                        break;
+                    }
+                    buffer.compact();
+                }
+            }
+        }
+        return new Recovery(counts, maxSequence, segments);
+    }
+
+    /**
+     * Abre um novo segmento; as próximas entradas continuam a partir da sequência indicada
+     */
+    public void open(long startSequence) throws IOException {
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            lastSequence = startSequence;
+            openSegment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acrescenta uma inscrição ao jornal e devolve a sua sequência
+     */
+    public long append(long eventId) {
+        lock.lock();
+        try {
+            if (torn) {
+                truncateTornRecord();
+            }
+            long sequence = lastSequence + 1;
+            record.clear();
+            record.putLong(sequence).putLong(eventId).flip();
+            try {
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+                if (syncOnWrite) {
+                    channel.force(false);
+                }
+            } catch (IOException ex) {
+                // A inscrição é recusada: a entrada (completa ou não) não pode ficar no segmento
+                torn = true;
+                try {
+                    truncateTornRecord();
+                } catch (IOException truncateEx) {
+                    ex.addSuppressed(truncateEx);
+                }
+                throw ex;
+            }
+            segmentSize += RECORD_SIZE;
+            lastSequence = sequence;
+            pending.merge(eventId, 1, Integer::sum);
+            return sequence;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao escrever no jornal de inscrições", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Corta do segmento os bytes de uma escrita falhada; se falhar, tenta de novo na
+     * próxima entrada, que até lá é recusada
+     */
+    private void truncateTornRecord() throws IOException {
+        try {
+            channel.truncate(segmentSize);
+            torn = false;
+        } catch (IOException ex) {
+            log.error("Não foi possível cortar a entrada falhada do jornal {}", segment.getFileName(), ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Inscrições ainda não aplicadas à base de dados para um evento
+     */
+    public int pending(long eventId) {
+        lock.lock();
+        try {
+            return pending.getOrDefault(eventId, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fecha o segmento atual e devolve as contagens pendentes, ou null se não houver nenhuma
+     */
+    public Batch drain() throws IOException {
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return null;
+            }
+            if (torn) {
+                truncateTornRecord();
+            }
+            channel.force(false);
+            channel.close();
+            sealedSegments.add(segment);
+
+            Batch batch = new Batch(new HashMap<>(pending), lastSequence, new ArrayList<>(sealedSegments));
+            pending.clear();
+            sealedSegments.clear();
+            openSegment();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Apaga os segmentos de um lote já confirmado na base de dados
+     */
+    public void release(Batch batch) {
+        for (Path path : batch.getSegments()) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ex) {
+                // Inofensivo: o checkpoint impede que as entradas sejam reaplicadas
+                log.warn("Não foi possível apagar o segmento {}: {}", path.getFileName(), ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Devolve ao jornal um lote que não pôde ser aplicado, para nova tentativa
+     */
+    public void requeue(Batch batch) {
+        lock.lock();
+        try {
+            batch.getCounts().forEach((eventId, count) -> pending.merge(eventId, count, Integer::sum));
+            sealedSegments.addAll(0, batch.getSegments());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (channel != null && channel.isOpen()) {
+                channel.force(false);
+                channel.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void openSegment() throws IOException {
+        segment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, lastSequence + 1, SEGMENT_SUFFIX));
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segmentSize = channel.size();
+        torn = false;
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        segments.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        return segments;
+    }
+
+    /**
+     * Contagens por evento fechadas num drain, com a última sequência incluída
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Batch {
+        private final Map<Long, Integer> counts;
+        private final long lastSequence;
+        private final List<Path> segments;
+    }
+
+    /**
+     * Resultado da leitura do jornal no arranque
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Recovery {
+        private final Map<Long, Integer> counts;
+        private final long lastSequence;
+        private final List<Path> segments;
+    }
+}
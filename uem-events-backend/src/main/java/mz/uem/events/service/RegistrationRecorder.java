@@ -0,0 +1,85 @@
+package mz.uem.events.service;
+
+import lombok.RequiredArgsConstructor;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.Registration;
+import mz.uem.events.exception.ResourceNotFoundException;
+import mz.uem.events.repository.EventRepository;
+import mz.uem.events.repository.RegistrationRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Grava a inscrição e reserva a vaga na mesma transação
+ * 
+ * O INSERT vem primeiro: um pedido repetido (mesma chave de idempotência ou mesmo
+ * participante) falha na restrição de unicidade antes de tocar na linha do evento,
+ * que é a disputada. Se a vaga não puder ser reservada, a transação é desfeita e a
+ * inscrição não fica gravada, pelo que currentRegistrations acompanha as linhas.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistrationRecorder {
+    
+    private final RegistrationRepository registrationRepository;
+    private final RegistrationEngine registrationEngine;
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    
+    /**
+     * @throws DataIntegrityViolationException se a inscrição já existir (ver {@link #isDuplicate})
+     */
+    @Transactional
+    public EventDTO record(Long eventId, String attendee, String idempotencyKey) {
+        registrationRepository.saveAndFlush(Registration.builder()
+                .eventId(eventId)
+                .attendee(attendee)
+                .idempotencyKey(idempotencyKey)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return registrationEngine.register(eventId);
+    }
+    
+    /**
+     * Estado atual do evento, devolvido a um pedido repetido
+     */
+    @Transactional(readOnly = true)
+    public EventDTO current(Long eventId) {
+        return eventRepository.findById(eventId)
+                .map(eventMapper::toDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", eventId));
+    }
+    
+    /**
+     * Indica se a falha veio de uma das restrições de unicidade das inscrições
+     */
+    public static boolean isDuplicate(DataIntegrityViolationException ex) {
+        return violates(ex, Registration.UK_EVENT_ATTENDEE, Registration.UK_EVENT_IDEMPOTENCY_KEY);
+    }
+    
+    /**
+     * Indica se a falha veio de uma das restrições indicadas
+     */
+    static boolean violates(DataIntegrityViolationException ex, String... constraints) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String name = violation.getConstraintName() != null
+                        ? violation.getConstraintName()
+                        : String.valueOf(violation.getMessage());
+                String lower = name.toLowerCase(Locale.ROOT);
+                for (String constraint : constraints) {
+                    if (lower.contains(constraint)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,568 @@
+package mz.uem.events.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.config.EventStreamProperties;
+import mz.uem.events.config.WaitlistProperties;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.dto.RegistrationResult;
+import mz.uem.events.dto.WaitlistTicket;
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.entity.Registration;
+import mz.uem.events.entity.WaitlistEntry;
+import mz.uem.events.entity.WaitlistStatus;
+import mz.uem.events.exception.BusinessException;
+import mz.uem.events.exception.ResourceNotFoundException;
+import mz.uem.events.repository.EventRepository;
+import mz.uem.events.repository.RegistrationRepository;
+import mz.uem.events.repository.WaitlistRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fila de espera dos eventos lotados.
+ *
+ * Um pedido identificado (participante ou Idempotency-Key) num evento lotado recebe um
+ * bilhete com a sua posição em vez de um erro; entrar na fila é um INSERT que não toca
+ * na linha do evento, e as repetições devolvem o bilhete existente pelas restrições de
+ * unicidade. Enquanto a fila de um evento não estiver vazia, os novos pedidos entram
+ * diretamente no fim, sem disputar as vagas libertadas.
+ *
+ * As vagas libertadas são atribuídas por ordem de chegada:
+ * <ul>
+ *   <li>o cancelamento de uma inscrição passa a vaga ao primeiro da fila na mesma
+ *       transação, sem alterar currentRegistrations;</li>
+ *   <li>o aumento de capacidade (UPDATED) e a verificação periódica (sweep-interval)
+ *       agendam uma promoção, feita por uma única thread, que reserva vagas pelo
+ *       RegistrationEngine até a fila esvaziar ou o evento voltar a ficar lotado.</li>
+ * </ul>
+ * Se o evento deixar de aceitar inscrições, a fila é encerrada. Cada bilhete pode ser
+ * acompanhado por SSE: a ligação recebe "waiting" e depois "promoted" ou "closed".
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistService {
+
+    private static final String WAITING_EVENT = "waiting";
+    private static final String PROMOTED_EVENT = "promoted";
+    private static final String CLOSED_EVENT = "closed";
+
+    // Entradas consideradas para receber a vaga de um cancelamento
+    private static final int TRANSFER_CANDIDATES = 10;
+
+    private final WaitlistProperties properties;
+    private final EventStreamProperties streamProperties;
+    private final WaitlistRepository waitlistRepository;
+    private final RegistrationRepository registrationRepository;
+    private final EventRepository eventRepository;
+    private final RegistrationRecorder registrationRecorder;
+    private final EventMapper eventMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    // Eventos com pedidos em espera e o comprimento da fila de cada um. Evita consultar a fila
+    // em cada inscrição e dá a posição de um pedido novo sem contar a fila (estimativa,
+    // acertada a cada sweep-interval; a consulta do bilhete devolve a posição exata)
+    private final Map<Long, AtomicLong> queueLengths = new ConcurrentHashMap<>();
+    // Eventos com promoção já agendada: vários avisos seguidos resultam numa só passagem
+    private final Set<Long> due = ConcurrentHashMap.newKeySet();
+    // Ligação SSE de cada bilhete
+    private final Map<Long, Listener> listeners = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService promoter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "waitlist-promoter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private record Listener(Long eventId, SseEmitter emitter) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        waitlistRepository.findWaitingEventIds().forEach(this::resyncLength);
+        meterRegistry.gaugeMapSize("events.waitlist.events", Tags.empty(), queueLengths);
+        long sweep = properties.getSweepInterval().toMillis();
+        promoter.scheduleWithFixedDelay(this::sweep, 0, sweep, TimeUnit.MILLISECONDS);
+        log.info("Fila de espera ativa ({} evento(s) com pedidos em espera, verificação a cada {})",
+                queueLengths.size(), properties.getSweepInterval());
+    }
+
+    @PreDestroy
+    void stop() {
+        promoter.shutdownNow();
+        listeners.values().forEach(listener -> listener.emitter().complete());
+        listeners.clear();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Indica se o evento tem pedidos em espera
+     */
+    public boolean hasWaiters(Long eventId) {
+        return queueLengths.containsKey(eventId);
+    }
+
+    /**
+     * Coloca o pedido no fim da fila; uma repetição (mesmo participante ou chave) devolve o bilhete existente
+     */
+    public RegistrationResult enqueue(Long eventId, String attendee, String idempotencyKey) {
+        // Repetição de um pedido já em fila: devolve o bilhete sem passar pela falha de unicidade
+        Optional<WaitlistEntry> existing = findEntry(eventId, attendee, idempotencyKey);
+        if (existing.isPresent()) {
+            count("duplicate");
+            return RegistrationResult.waitlisted(toTicket(existing.get()), true);
+        }
+
+        WaitlistEntry entry;
+        try {
+            entry = waitlistRepository.saveAndFlush(WaitlistEntry.builder()
+                    .eventId(eventId)
+                    .attendee(attendee)
+                    .idempotencyKey(idempotencyKey)
+                    .status(WaitlistStatus.WAITING)
+                    // Precisão da coluna, para que a posição compare com o valor gravado
+                    .createdAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                    .build());
+        } catch (DataIntegrityViolationException ex) {
+            // Pedido concorrente com o mesmo participante ou chave
+            if (!RegistrationRecorder.violates(ex, WaitlistEntry.UK_EVENT_ATTENDEE, WaitlistEntry.UK_EVENT_IDEMPOTENCY_KEY)) {
+                throw ex;
+            }
+            count("duplicate");
+            return RegistrationResult.waitlisted(toTicket(findEntry(eventId, attendee, idempotencyKey).orElseThrow(() -> ex)), true);
+        }
+        count("enqueued");
+
+        long position;
+        AtomicLong length = queueLengths.get(eventId);
+        if (length != null) {
+            position = length.incrementAndGet();
+        } else {
+            position = exactPosition(entry);
+            AtomicLong previous = queueLengths.putIfAbsent(eventId, new AtomicLong(position));
+            if (previous == null) {
+                // Primeiro da fila: uma vaga pode ter sido libertada entre a tentativa de inscrição e a entrada na fila
+                schedulePromotion(eventId);
+            } else {
+                position = previous.incrementAndGet();
+            }
+        }
+        return RegistrationResult.waitlisted(toTicket(entry, position), false);
+    }
+
+    /**
+     * Estado de um bilhete
+     */
+    public WaitlistTicket getTicket(Long eventId, Long ticket) {
+        return toTicket(loadEntry(eventId, ticket));
+    }
+
+    /**
+     * Retira um pedido da fila
+     */
+    public void leave(Long eventId, Long ticket) {
+        WaitlistEntry entry = loadEntry(eventId, ticket);
+        if (entry.getStatus() == WaitlistStatus.PROMOTED) {
+            throw new BusinessException("O pedido já foi promovido a inscrição; cancele a inscrição");
+        }
+        if (entry.getStatus() == WaitlistStatus.WAITING) {
+            // Condicional: promote() pode ter dado a vaga a este pedido depois de ser lido
+            int deleted = transactionTemplate.execute(status -> waitlistRepository.deleteWaiting(entry.getId()));
+            if (deleted == 0) {
+                throw new BusinessException("O pedido já não está em espera; consulte o bilhete");
+            }
+            shorten(entry.getEventId());
+        } else {
+            waitlistRepository.delete(entry);
+        }
+        count("left");
+        Listener listener = listeners.remove(ticket);
+        if (listener != null) {
+            listener.emitter().complete();
+        }
+    }
+
+    /**
+     * Abre uma ligação SSE para o bilhete: "waiting" com a posição atual e depois
+     * "promoted" ou "closed". Um bilhete já resolvido recebe o estado final e a ligação termina.
+     */
+    public SseEmitter subscribe(Long eventId, Long ticket) {
+        WaitlistTicket current = getTicket(eventId, ticket);
+        SseEmitter emitter = new SseEmitter(streamProperties.getTimeout().toMillis());
+        if (current.getStatus() != WaitlistStatus.WAITING) {
+            send(emitter, eventName(current.getStatus()), current);
+            emitter.complete();
+            return emitter;
+        }
+
+        Listener listener = new Listener(eventId, emitter);
+        Listener previous = listeners.put(ticket, listener);
+        if (previous != null) {
+            previous.emitter().complete();
+        }
+        emitter.onCompletion(() -> listeners.remove(ticket, listener));
+        emitter.onTimeout(() -> listeners.remove(ticket, listener));
+        emitter.onError(error -> listeners.remove(ticket, listener));
+        send(emitter, WAITING_EVENT, current);
+
+        // O bilhete pode ter sido resolvido antes de a ligação ficar registada
+        WaitlistTicket latest = getTicket(eventId, ticket);
+        if (latest.getStatus() != WaitlistStatus.WAITING) {
+            notifyTicket(ticket, latest);
+        }
+        return emitter;
+    }
+
+    /**
+     * Cancela a inscrição de um participante (identificado pelo participante ou pela
+     * Idempotency-Key da inscrição). A vaga passa ao primeiro da fila na mesma transação;
+     * sem fila, currentRegistrations diminui.
+     */
+    public EventDTO cancelRegistration(Long eventId, String attendee, String idempotencyKey) {
+        if (attendee == null && idempotencyKey == null) {
+            throw new BusinessException("Indique o participante ou a Idempotency-Key da inscrição a cancelar");
+        }
+        Cancellation cancellation = transactionTemplate.execute(status -> {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", eventId));
+            Registration registration = (attendee != null
+                    ? registrationRepository.findByEventIdAndAttendee(eventId, attendee)
+                    : registrationRepository.findByEventIdAndIdempotencyKey(eventId, idempotencyKey))
+                    .orElseThrow(() -> attendee != null
+                            ? new ResourceNotFoundException("Inscrição", "participante", attendee)
+                            : new ResourceNotFoundException("Inscrição", "Idempotency-Key", idempotencyKey));
+            registrationRepository.delete(registration);
+            registrationRepository.flush();
+            // Entradas antigas do mesmo participante deixariam de o deixar voltar à fila
+            waitlistRepository.deleteResolved(eventId, registration.getAttendee(), registration.getIdempotencyKey());
+
+            WaitlistEntry promoted = properties.isEnabled() && event.getStatus() == EventStatus.UPCOMING
+                    ? transferSeat(eventId)
+                    : null;
+            if (promoted == null) {
+                eventRepository.addRegistrations(eventId, -1, LocalDateTime.now());
+            }
+            EventDTO snapshot = eventRepository.findById(eventId).map(eventMapper::toDTO).orElseThrow();
+            return new Cancellation(snapshot, promoted);
+        });
+
+        log.info("Inscrição cancelada no evento ID: {}", eventId);
+        if (cancellation.promoted() != null) {
+            promoted(cancellation.promoted());
+        }
+        eventPublisher.publishEvent(new EventChangedEvent(eventId, EventChangedEvent.ChangeType.UPDATED, cancellation.event()));
+        return cancellation.event();
+    }
+
+    private record Cancellation(EventDTO event, WaitlistEntry promoted) {
+    }
+
+    /**
+     * Promove os pedidos em espera quando a capacidade aumenta ou o evento muda de status;
+     * encerra os bilhetes quando o evento é removido
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        Long eventId = change.getEventId();
+        switch (change.getType()) {
+            case UPDATED -> {
+                if (queueLengths.containsKey(eventId)) {
+                    schedulePromotion(eventId);
+                }
+            }
+            case DELETED -> {
+                queueLengths.remove(eventId);
+                listeners.forEach((ticket, listener) -> {
+                    if (eventId.equals(listener.eventId())) {
+                        notifyTicket(ticket, WaitlistTicket.builder()
+                                .ticket(ticket)
+                                .eventId(eventId)
+                                .status(WaitlistStatus.CLOSED)
+                                .statusDisplayName(WaitlistStatus.CLOSED.getDisplayName())
+                                .resolvedAt(LocalDateTime.now())
+                                .build());
+                    }
+                });
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void schedulePromotion(Long eventId) {
+        if (!properties.isEnabled() || !due.add(eventId)) {
+            return;
+        }
+        try {
+            promoter.execute(() -> {
+                due.remove(eventId);
+                promote(eventId);
+            });
+        } catch (RejectedExecutionException ex) {
+            // Aplicação a encerrar
+            due.remove(eventId);
+        }
+    }
+
+    private void sweep() {
+        for (Long eventId : List.copyOf(queueLengths.keySet())) {
+            try {
+                resyncLength(eventId);
+            } catch (RuntimeException ex) {
+                log.warn("Falha ao contar a fila de espera do evento {}", eventId, ex);
+            }
+            schedulePromotion(eventId);
+        }
+    }
+
+    /**
+     * Acerta o comprimento da fila com a base de dados
+     */
+    private void resyncLength(Long eventId) {
+        long waiting = waitlistRepository.countByEventIdAndStatus(eventId, WaitlistStatus.WAITING);
+        queueLengths.computeIfAbsent(eventId, id -> new AtomicLong()).set(waiting);
+    }
+
+    private void shorten(Long eventId) {
+        AtomicLong length = queueLengths.get(eventId);
+        if (length != null) {
+            length.updateAndGet(value -> Math.max(0, value - 1));
+        }
+    }
+
+    /**
+     * Reserva vagas para os primeiros da fila até a fila esvaziar ou o evento ficar lotado
+     */
+    private void promote(Long eventId) {
+        try {
+            Optional<Event> current = eventRepository.findById(eventId);
+            if (current.isEmpty()) {
+                queueLengths.remove(eventId);
+                return;
+            }
+            if (current.get().getStatus() != EventStatus.UPCOMING) {
+                close(eventId);
+                return;
+            }
+            if (current.get().isFull()) {
+                // Sem vagas: evita escrever na fila só para desfazer
+                return;
+            }
+            while (true) {
+                Optional<WaitlistEntry> head = firstWaiting(eventId);
+                if (head.isEmpty()) {
+                    queueLengths.remove(eventId);
+                    // Um pedido pode ter entrado na fila entretanto
+                    if (firstWaiting(eventId).isPresent()) {
+                        resyncLength(eventId);
+                        continue;
+                    }
+                    return;
+                }
+                WaitlistEntry entry = head.get();
+                EventDTO event;
+                LocalDateTime now = LocalDateTime.now();
+                try {
+                    event = transactionTemplate.execute(status ->
+                            waitlistRepository.resolve(entry.getId(), WaitlistStatus.PROMOTED, now) == 0
+                                    ? null
+                                    : registrationRecorder.record(eventId, entry.getAttendee(), entry.getIdempotencyKey()));
+                } catch (IllegalStateException ex) {
+                    // Sem vagas: fica à espera do próximo cancelamento ou aumento de capacidade
+                    return;
+                } catch (BusinessException ex) {
+                    close(eventId);
+                    return;
+                } catch (ResourceNotFoundException ex) {
+                    queueLengths.remove(eventId);
+                    return;
+                } catch (DataIntegrityViolationException ex) {
+                    if (!RegistrationRecorder.isDuplicate(ex)) {
+                        throw ex;
+                    }
+                    // Já inscrito por outra via: o pedido sai da fila sem ocupar outra vaga
+                    transactionTemplate.executeWithoutResult(status ->
+                            waitlistRepository.resolve(entry.getId(), WaitlistStatus.PROMOTED, LocalDateTime.now()));
+                    shorten(eventId);
+                    notifyTicket(entry.getId(), toTicket(loadEntry(eventId, entry.getId())));
+                    continue;
+                }
+                if (event != null) {
+                    entry.setStatus(WaitlistStatus.PROMOTED);
+                    entry.setResolvedAt(now);
+                    promoted(entry);
+                    eventPublisher.publishEvent(new EventChangedEvent(eventId, EventChangedEvent.ChangeType.REGISTERED, event));
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.error("Falha ao promover a fila de espera do evento {}; nova tentativa na próxima verificação", eventId, ex);
+        }
+    }
+
+    /**
+     * Passa a vaga de um cancelamento ao primeiro da fila (dentro da transação do cancelamento)
+     */
+    private WaitlistEntry transferSeat(Long eventId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<WaitlistEntry> candidates = waitlistRepository.findByEventIdAndStatusOrderByCreatedAtAscIdAsc(
+                eventId, WaitlistStatus.WAITING, Limit.of(TRANSFER_CANDIDATES));
+        for (WaitlistEntry candidate : candidates) {
+            if (waitlistRepository.resolve(candidate.getId(), WaitlistStatus.PROMOTED, now) == 0) {
+                // Promovido por outra transação
+                continue;
+            }
+            if (isRegistered(eventId, candidate)) {
+                continue;
+            }
+            registrationRepository.save(Registration.builder()
+                    .eventId(eventId)
+                    .attendee(candidate.getAttendee())
+                    .idempotencyKey(candidate.getIdempotencyKey())
+                    .createdAt(now)
+                    .build());
+            candidate.setStatus(WaitlistStatus.PROMOTED);
+            candidate.setResolvedAt(now);
+            return candidate;
+        }
+        return null;
+    }
+
+    private boolean isRegistered(Long eventId, WaitlistEntry entry) {
+        return (entry.getAttendee() != null && registrationRepository.existsByEventIdAndAttendee(eventId, entry.getAttendee()))
+                || (entry.getIdempotencyKey() != null
+                        && registrationRepository.existsByEventIdAndIdempotencyKey(eventId, entry.getIdempotencyKey()));
+    }
+
+    private void close(Long eventId) {
+        int closed = transactionTemplate.execute(status -> waitlistRepository.closeByEventId(eventId, LocalDateTime.now()));
+        queueLengths.remove(eventId);
+        count("closed", closed);
+        log.info("Fila de espera do evento {} encerrada ({} pedido(s)): o evento já não aceita inscrições", eventId, closed);
+        listeners.forEach((ticket, listener) -> {
+            if (eventId.equals(listener.eventId())) {
+                waitlistRepository.findById(ticket).ifPresent(entry -> notifyTicket(ticket, toTicket(entry)));
+            }
+        });
+    }
+
+    private void promoted(WaitlistEntry entry) {
+        shorten(entry.getEventId());
+        count("promoted");
+        log.info("Pedido {} da fila de espera promovido a inscrição no evento {}", entry.getId(), entry.getEventId());
+        notifyTicket(entry.getId(), toTicket(entry));
+    }
+
+    /**
+     * Envia o estado final ao subscritor do bilhete (no máximo uma vez) e fecha a ligação
+     */
+    private void notifyTicket(Long ticket, WaitlistTicket state) {
+        Listener listener = listeners.remove(ticket);
+        if (listener == null) {
+            return;
+        }
+        send(listener.emitter(), eventName(state.getStatus()), state);
+        listener.emitter().complete();
+    }
+
+    private static void send(SseEmitter emitter, String name, WaitlistTicket state) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(state));
+        } catch (IOException | IllegalStateException ex) {
+            // Ligação fechada pelo cliente; o estado continua disponível no bilhete
+            emitter.completeWithError(ex);
+        }
+    }
+
+    private static String eventName(WaitlistStatus status) {
+        return switch (status) {
+            case WAITING -> WAITING_EVENT;
+            case PROMOTED -> PROMOTED_EVENT;
+            case CLOSED -> CLOSED_EVENT;
+        };
+    }
+
+    private Optional<WaitlistEntry> firstWaiting(Long eventId) {
+        return waitlistRepository.findByEventIdAndStatusOrderByCreatedAtAscIdAsc(eventId, WaitlistStatus.WAITING, Limit.of(1))
+                .stream()
+                .findFirst();
+    }
+
+    private Optional<WaitlistEntry> findEntry(Long eventId, String attendee, String idempotencyKey) {
+        Optional<WaitlistEntry> entry = attendee != null
+                ? waitlistRepository.findByEventIdAndAttendee(eventId, attendee)
+                : Optional.empty();
+        if (entry.isEmpty() && idempotencyKey != null) {
+            entry = waitlistRepository.findByEventIdAndIdempotencyKey(eventId, idempotencyKey);
+        }
+        return entry;
+    }
+
+    private WaitlistEntry loadEntry(Long eventId, Long ticket) {
+        return waitlistRepository.findById(ticket)
+                .filter(entry -> entry.getEventId().equals(eventId))
+                .orElseThrow(() -> new ResourceNotFoundException("Pedido da fila de espera", "bilhete", ticket));
+    }
+
+    private WaitlistTicket toTicket(WaitlistEntry entry) {
+        return toTicket(entry, entry.getStatus() == WaitlistStatus.WAITING ? exactPosition(entry) : null);
+    }
+
+    private WaitlistTicket toTicket(WaitlistEntry entry, Long position) {
+        return WaitlistTicket.builder()
+                .ticket(entry.getId())
+                .eventId(entry.getEventId())
+                .attendee(entry.getAttendee())
+                .status(entry.getStatus())
+                .statusDisplayName(entry.getStatus().getDisplayName())
+                .position(position)
+                .createdAt(entry.getCreatedAt())
+                .resolvedAt(entry.getResolvedAt())
+                .build();
+    }
+
+    private long exactPosition(WaitlistEntry entry) {
+        return waitlistRepository.countAhead(entry.getEventId(), entry.getCreatedAt(), entry.getId()) + 1;
+    }
+
+    private void count(String outcome) {
+        count(outcome, 1);
+    }
+
+    private void count(String outcome, int amount) {
+        meterRegistry.counter("events.waitlist", "outcome", outcome).increment(amount);
+    }
+}
@@ -0,0 +1,78 @@
+package mz.uem.events.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import mz.uem.events.dto.CreateEventRequest;
+import mz.uem.events.entity.EventCategory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Um acerto na cache de leitura não abre transação (nem pede ligação ao pool); só a
+ * falha carrega os dados, numa transação só de leitura
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventCacheTransactionTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void detailHitRunsNoTransaction() {
+        Long id = eventService.createEvent(request()).getId();
+
+        assertThat(transactions(() -> eventService.getEventById(id))).isEqualTo(1);
+        assertThat(transactions(() -> eventService.getEventById(id))).isZero();
+    }
+
+    @Test
+    void pageHitRunsNoTransaction() {
+        eventService.createEvent(request());
+        PageRequest page = PageRequest.of(0, 7);
+
+        assertThat(transactions(() -> eventService.getAllEvents(page))).isEqualTo(1);
+        assertThat(transactions(() -> eventService.getAllEvents(page))).isZero();
+    }
+
+    private long transactions(Runnable call) {
+        statistics.clear();
+        call.run();
+        return statistics.getTransactionCount();
+    }
+
+    private static CreateEventRequest request() {
+        CreateEventRequest request = new CreateEventRequest();
+        request.setTitle("Palestra sobre Bases de Dados");
+        request.setDescription("Evento usado para verificar os acertos na cache de leitura");
+        request.setEventDate(LocalDateTime.now().plusDays(10));
+        request.setLocation("Auditório Central");
+        request.setOrganizer("Faculdade de Ciências");
+        request.setCategory(EventCategory.ACADEMIC);
+        request.setMaxCapacity(80);
+        request.setTags(new ArrayList<>(List.of("bases-de-dados")));
+        return request;
+    }
+}
@@ -0,0 +1,53 @@
+package mz.uem.events.service;
+
+import mz.uem.events.dto.ImportResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uma tag maior do que a coluna é rejeitada na validação da sua linha, sem fazer falhar
+ * o bloco nem as outras linhas
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventImportServiceTest {
+
+    private static final String HEADER =
+            "title,description,eventDate,location,organizer,category,maxCapacity,imageUrl,tags,status\n";
+
+    @Autowired
+    private EventImportService importService;
+
+    @Test
+    void tooLongTagRejectsOnlyItsLine() throws Exception {
+        String date = LocalDateTime.now().plusDays(20).truncatedTo(ChronoUnit.MINUTES).toString();
+        String csv = HEADER
+                + row("Feira de Carreiras", date, "carreiras;emprego")
+                + row("Noite Cultural", date, "cultura;" + "x".repeat(51))
+                + row("Torneio de Xadrez", date, "desporto");
+
+        ImportResult result = importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(3);
+            assertThat(error.getMessages()).singleElement().asString()
+                    .contains("tags").contains("50 caracteres");
+        });
+    }
+
+    private static String row(String title, String date, String tags) {
+        return String.join(",", title, "Evento importado no teste de validação das tags", date,
+                "Campus Principal", "Associação de Estudantes", "CULTURAL", "120", "", tags, "") + "\n";
+    }
+}
@@ -0,0 +1,133 @@
+package mz.uem.events.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.repository.EventRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * As listagens montam os cartões num número fixo de instruções SQL: a página, a contagem
+ * e as tags em lote, quer a página tenha 5 ou 50 eventos
+ *
+ * As caches (de leitura e de segundo nível) ficam desligadas para que cada chamada vá à
+ * base de dados.
+ */
+@SpringBootTest(properties = {
+    "uem.events.cache.enabled=false",
+    "uem.events.second-level-cache.enabled=false"
+})
+@ActiveProfiles("test")
+class EventListQueryCountTest {
+
+    private static final int SMALL_PAGE = 5;
+    private static final int LARGE_PAGE = 50;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        if (eventRepository.count() < LARGE_PAGE) {
+            seed(LARGE_PAGE + 10);
+        }
+    }
+
+    @Test
+    void allEventsDoNotGrowWithPageSize() {
+        assertConstant(eventService::getAllEvents);
+    }
+
+    @Test
+    void categoryDoesNotGrowWithPageSize() {
+        assertConstant(pageable -> eventService.getEventsByCategory(EventCategory.TECH, pageable));
+    }
+
+    @Test
+    void statusDoesNotGrowWithPageSize() {
+        assertConstant(pageable -> eventService.getEventsByStatus(EventStatus.UPCOMING, pageable));
+    }
+
+    @Test
+    void availableCapacityDoesNotGrowWithPageSize() {
+        assertConstant(eventService::getEventsWithAvailableCapacity);
+    }
+
+    /**
+     * A lista de próximos não é paginada: compara-se antes e depois de acrescentar eventos
+     */
+    @Test
+    void upcomingDoesNotGrowWithEventCount() {
+        long before = statements(eventService::getUpcomingEvents);
+        int listedBefore = eventService.getUpcomingEvents().size();
+        seed(LARGE_PAGE);
+
+        assertThat(eventService.getUpcomingEvents()).hasSize(listedBefore + LARGE_PAGE);
+        assertThat(before).isPositive();
+        assertThat(statements(eventService::getUpcomingEvents)).isEqualTo(before);
+    }
+
+    private void assertConstant(Function<Pageable, ?> listing) {
+        long small = statements(() -> listing.apply(page(SMALL_PAGE)));
+        long large = statements(() -> listing.apply(page(LARGE_PAGE)));
+
+        assertThat(large)
+                .as("instruções SQL com páginas de %d e de %d eventos", SMALL_PAGE, LARGE_PAGE)
+                .isEqualTo(small);
+        assertThat(small).isBetween(1L, 3L);
+    }
+
+    private long statements(Runnable call) {
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static Pageable page(int size) {
+        return PageRequest.of(0, size, Sort.by("eventDate"));
+    }
+
+    private void seed(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(Event.builder()
+                    .title("Workshop de Programação " + i)
+                    .description("Evento criado para contar as instruções SQL das listagens")
+                    .eventDate(LocalDateTime.now().plusDays(1 + i))
+                    .location("Laboratório " + (i % 5))
+                    .organizer("Departamento de Informática")
+                    .category(EventCategory.TECH)
+                    .maxCapacity(100)
+                    .tags(new ArrayList<>(List.of("java", "spring", "tag-" + i)))
+                    .build());
+        }
+        eventRepository.saveAll(events);
+    }
+}
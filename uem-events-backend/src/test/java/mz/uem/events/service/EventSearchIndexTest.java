@@ -0,0 +1,201 @@
+package mz.uem.events.service;
+
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.Event;
+import mz.uem.events.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pesquisa no índice invertido: normalização, ordenação por relevância, alterações,
+ * remoções e compactação, comparadas com uma pesquisa exaustiva sobre os mesmos eventos
+ */
+class EventSearchIndexTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    private EventRepository eventRepository;
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        index = new EventSearchIndex(eventRepository, new EventMapper(eventRepository), transactionTemplate);
+    }
+
+    @Test
+    void foldsAccentsAndCase() throws Exception {
+        build();
+        create(event(1L, "Seminário de Educação", "Debate sobre o ensino superior"));
+
+        assertThat(ids("seminario")).containsExactly(1L);
+        assertThat(ids("SEMINÁRIO educacao")).containsExactly(1L);
+        assertThat(ids("Ensino, Superior!")).containsExactly(1L);
+        assertThat(ids("de o")).as("só palavras comuns").isEmpty();
+    }
+
+    @Test
+    void ranksTitleAboveDescriptionAndTiesByEventId() throws Exception {
+        build();
+        create(event(3L, "Palestra", "Uma palestra sobre robótica aplicada"));
+        create(event(2L, "Robótica Educativa", "Oficina para estudantes"));
+        create(event(5L, "Feira de Ciência", "Projetos de robótica e de química"));
+        create(event(4L, "Robótica Educativa", "Oficina para estudantes"));
+
+        assertThat(ids("robotica")).containsExactly(2L, 4L, 3L, 5L);
+        EventSearchIndex.Hits window = index.search("robotica", 1, 2);
+        assertThat(window.getTotal()).isEqualTo(4);
+        assertThat(window.getEventIds()).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void updateReplacesTermsAndIgnoresOlderVersions() throws Exception {
+        build();
+        create(event(1L, "Torneio de Xadrez", "Competição entre faculdades"));
+        change(EventChangedEvent.ChangeType.UPDATED, event(1L, "Torneio de Basquetebol", "Competição entre faculdades")
+                .toBuilder().updatedAt(CREATED_AT.plusMinutes(5)).build());
+
+        assertThat(ids("xadrez")).isEmpty();
+        assertThat(ids("basquetebol torneio")).containsExactly(1L);
+
+        // Uma leitura antiga (por exemplo, da construção inicial) chega depois da alteração
+        change(EventChangedEvent.ChangeType.UPDATED, event(1L, "Torneio de Xadrez", "Competição entre faculdades")
+                .toBuilder().updatedAt(CREATED_AT.plusMinutes(1)).build());
+        assertThat(ids("xadrez")).isEmpty();
+        assertThat(ids("basquetebol")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteRemovesEvent() throws Exception {
+        build();
+        create(event(1L, "Noite de Poesia", "Leitura de poemas"));
+        create(event(2L, "Noite de Teatro", "Peça do grupo universitário"));
+
+        index.onEventChanged(new EventChangedEvent(1L, EventChangedEvent.ChangeType.DELETED, null));
+
+        assertThat(ids("noite")).containsExactly(2L);
+        assertThat(index.search("poesia", 0, 10).getTotal()).isZero();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void eventDeletedDuringBuildIsNotRestored() throws Exception {
+        // O evento é removido enquanto a construção o lê da base de dados
+        Event stale = Event.builder().id(1L).title("Feira de Emprego").description("Empresas parceiras")
+                .organizer("Reitoria").location("Campus").updatedAt(CREATED_AT).build();
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(any(), any())).thenAnswer(invocation -> {
+            if ((Long) invocation.getArgument(0) > 0) {
+                return List.of();
+            }
+            index.onEventChanged(new EventChangedEvent(1L, EventChangedEvent.ChangeType.DELETED, null));
+            return List.of(stale);
+        });
+
+        build();
+
+        assertThat(ids("emprego")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    /**
+     * Milhares de eventos com termos aleatórios, alterados e removidos até passar o limiar
+     * de compactação: cada pesquisa devolve o mesmo que uma verificação evento a evento
+     */
+    @Test
+    void matchesExhaustiveSearchAcrossCompaction() throws Exception {
+        build();
+        String[] vocabulary = {"seminario", "workshop", "dados", "energia", "saude", "direito",
+                "cultura", "futebol", "maputo", "beira", "quimica", "historia"};
+        Random random = new Random(7);
+        int events = 6000;
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < events; i++) {
+            titles.add(title(vocabulary, random));
+            create(event(i + 1L, titles.get(i), null));
+        }
+        // Metade dos eventos alterados ou removidos: mais de um quarto dos documentos fica obsoleto
+        for (int i = 0; i < events; i += 2) {
+            long eventId = i + 1L;
+            if (random.nextBoolean()) {
+                titles.set(i, null);
+                index.onEventChanged(new EventChangedEvent(eventId, EventChangedEvent.ChangeType.DELETED, null));
+            } else {
+                titles.set(i, title(vocabulary, random));
+                change(EventChangedEvent.ChangeType.UPDATED, event(eventId, titles.get(i), null)
+                        .toBuilder().updatedAt(CREATED_AT.plusMinutes(1)).build());
+            }
+        }
+
+        String[] queries = {"seminario", "dados energia", "maputo saude futebol", "quimica historia beira direito"};
+        for (String query : queries) {
+            List<String> terms = EventTextAnalyzer.terms(query);
+            List<Long> expected = new ArrayList<>();
+            for (int i = 0; i < events; i++) {
+                if (titles.get(i) != null && EventTextAnalyzer.terms(titles.get(i)).containsAll(terms)) {
+                    expected.add(i + 1L);
+                }
+            }
+            EventSearchIndex.Hits hits = index.search(query, 0, events);
+            assertThat(hits.getTotal()).as(query).isEqualTo(expected.size());
+            assertThat(hits.getEventIds()).as(query).containsExactlyInAnyOrderElementsOf(expected);
+        }
+        assertThat(index.size()).isEqualTo((int) titles.stream().filter(title -> title != null).count());
+    }
+
+    private static String title(String[] vocabulary, Random random) {
+        StringBuilder title = new StringBuilder();
+        for (int words = 1 + random.nextInt(4); words > 0; words--) {
+            title.append(vocabulary[random.nextInt(vocabulary.length)]).append(' ');
+        }
+        return title.toString();
+    }
+
+    private void build() throws InterruptedException {
+        index.buildOnStartup();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!index.isReady()) {
+            assertThat(System.nanoTime()).as("índice pronto em 5 s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query, 0, 10).getEventIds();
+    }
+
+    private void create(EventDTO event) {
+        change(EventChangedEvent.ChangeType.CREATED, event);
+    }
+
+    private void change(EventChangedEvent.ChangeType type, EventDTO event) {
+        index.onEventChanged(new EventChangedEvent(event.getId(), type, event));
+    }
+
+    private static EventDTO event(Long id, String title, String description) {
+        return EventDTO.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .organizer("Universidade")
+                .location("Campus")
+                .tags(List.of())
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+}
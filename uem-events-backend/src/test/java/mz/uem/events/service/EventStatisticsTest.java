@@ -0,0 +1,67 @@
+package mz.uem.events.service;
+
+import mz.uem.events.config.EventStatsProperties;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Notificações entregues fora de ordem não fazem recuar os agregados
+ */
+class EventStatisticsTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    private EventStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        EventRepository eventRepository = mock(EventRepository.class);
+        when(eventRepository.findCountersByIdGreaterThanOrderByIdAsc(any(), any())).thenReturn(List.of());
+        statistics = new EventStatistics(new EventStatsProperties(), eventRepository);
+        statistics.reconcile();
+        statistics.onEventChanged(change(EventChangedEvent.ChangeType.CREATED, 0, 100, CREATED_AT));
+    }
+
+    @Test
+    void registrationsDeliveredOutOfOrderAreAllCounted() {
+        statistics.onEventChanged(change(EventChangedEvent.ChangeType.REGISTERED, 2, 100, CREATED_AT.plusSeconds(2)));
+        statistics.onEventChanged(change(EventChangedEvent.ChangeType.REGISTERED, 3, 100, CREATED_AT.plusSeconds(3)));
+        statistics.onEventChanged(change(EventChangedEvent.ChangeType.REGISTERED, 1, 100, CREATED_AT.plusSeconds(1)));
+
+        assertThat(statistics.summary().getTotalRegistrations()).isEqualTo(3);
+    }
+
+    @Test
+    void olderSnapshotDoesNotReplaceNewerOne() {
+        statistics.onEventChanged(change(EventChangedEvent.ChangeType.UPDATED, 0, 200, CREATED_AT.plusMinutes(5)));
+        statistics.onEventChanged(change(EventChangedEvent.ChangeType.UPDATED, 0, 150, CREATED_AT.plusMinutes(1)));
+
+        assertThat(statistics.summary().getTotalCapacity()).isEqualTo(200);
+    }
+
+    private static EventChangedEvent change(EventChangedEvent.ChangeType type, int registrations, int capacity,
+                                            LocalDateTime updatedAt) {
+        EventDTO snapshot = EventDTO.builder()
+                .id(EVENT_ID)
+                .category(EventCategory.ACADEMIC)
+                .status(EventStatus.UPCOMING)
+                .maxCapacity(capacity)
+                .currentRegistrations(registrations)
+                .updatedAt(updatedAt)
+                .build();
+        return new EventChangedEvent(EVENT_ID, type, snapshot);
+    }
+}
@@ -0,0 +1,166 @@
+package mz.uem.events.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import mz.uem.events.config.EventStreamProperties;
+import mz.uem.events.dto.EventDTO;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Um subscritor que deixa de ler não prende threads nem atrasa os outros: é desligado
+ * ao fim de write-timeout, enquanto os restantes continuam a receber as atualizações
+ */
+class EventUpdateFeedTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventUpdateFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        EventStreamProperties properties = new EventStreamProperties();
+        properties.setCoalesceInterval(Duration.ofMillis(10));
+        properties.setWriteTimeout(Duration.ofSeconds(1));
+        meterRegistry = new SimpleMeterRegistry();
+        feed = new EventUpdateFeed(properties, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+        feed.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.stop();
+    }
+
+    @Test
+    void stalledSubscriberIsEvictedWhileOthersKeepReceiving() throws Exception {
+        Output stalled = new Output(false);
+        Output reading = new Output(true);
+        assertThat(subscribe(stalled)).isTrue();
+        assertThat(subscribe(reading)).isTrue();
+
+        feed.onEventChanged(change(7));
+        awaitUntil(() -> reading.text().contains("\"currentRegistrations\":7"));
+        awaitUntil(() -> feed.subscriberCount() == 1);
+
+        assertThat(reading.text()).startsWith(": keep-alive\n\n").contains("event: capacity\ndata: {");
+        assertThat(stalled.text()).isEmpty();
+        assertThat(meterRegistry.counter("events.stream.evicted").count()).isEqualTo(1);
+
+        feed.onEventChanged(change(8));
+        awaitUntil(() -> reading.text().contains("\"currentRegistrations\":8"));
+    }
+
+    @Test
+    void subscriberCatchesUpWithLatestStateWhenOutputIsReadyAgain() throws Exception {
+        Output slow = new Output(false);
+        subscribe(slow);
+
+        feed.onEventChanged(change(7));
+        awaitUntil(() -> published() == 1);
+        feed.onEventChanged(change(9));
+        awaitUntil(() -> published() == 2);
+        slow.resume();
+
+        // As atualizações pendentes do mesmo evento foram agregadas: só segue a mais recente
+        assertThat(slow.text()).contains("\"currentRegistrations\":9").doesNotContain("\"currentRegistrations\":7");
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+    }
+
+    private boolean subscribe(Output output) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/stream");
+        request.setAsyncSupported(true);
+        HttpServletResponseWrapper response = new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return output;
+            }
+        };
+        return feed.subscribe(Set.of(EVENT_ID), request, response);
+    }
+
+    private double published() {
+        return meterRegistry.counter("events.stream.updates").count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condição não atingida em 5 s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static EventChangedEvent change(int registrations) {
+        EventDTO snapshot = EventDTO.builder()
+                .id(EVENT_ID)
+                .category(EventCategory.ACADEMIC)
+                .status(EventStatus.UPCOMING)
+                .maxCapacity(100)
+                .currentRegistrations(registrations)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return new EventChangedEvent(EVENT_ID, EventChangedEvent.ChangeType.REGISTERED, snapshot);
+    }
+
+    /**
+     * Saída não bloqueante cuja disponibilidade o teste controla, como um cliente que para de ler
+     */
+    private static final class Output extends ServletOutputStream {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private volatile boolean ready;
+        private WriteListener listener;
+
+        private Output(boolean ready) {
+            this.ready = ready;
+        }
+
+        private void resume() throws Exception {
+            ready = true;
+            listener.onWritePossible();
+        }
+
+        private synchronized String text() {
+            return written.toString(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            listener = writeListener;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            written.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            written.write(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package mz.uem.events.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * O mesmo teste com os contadores em memória (uem.events.registration.mode=memory):
+ * o primeiro pedido de cada evento carrega o contador, em concorrência com os outros
+ */
+@TestPropertySource(properties = {
+    "uem.events.registration.mode=memory",
+    "uem.events.registration.journal-directory=target/registration-journal/${random.uuid}"
+})
+class InMemoryRegistrationConcurrencyTest extends RegistrationConcurrencyTest {
+
+    @Autowired
+    private InMemoryRegistrationEngine registrationEngine;
+
+    @Override
+    protected void awaitApplied() throws Exception {
+        registrationEngine.flush();
+    }
+}
@@ -0,0 +1,106 @@
+package mz.uem.events.service;
+
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.dto.CreateEventRequest;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Milhares de inscrições em paralelo num só evento: o contador termina exatamente na
+ * capacidade, sem vender vagas a mais nem perder atualizações
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Slf4j
+class RegistrationConcurrencyTest {
+
+    private static final int CAPACITY = 100;
+    private static final int REQUESTS = 2_000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelRegistrationsFillTheEventExactly() throws Exception {
+        Long eventId = eventService.createEvent(request()).getId();
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> calls = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            calls.add(executor.submit(() -> {
+                start.await();
+                try {
+                    eventService.registerParticipant(eventId);
+                    accepted.incrementAndGet();
+                } catch (IllegalStateException ex) {
+                    full.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> call : calls) {
+            call.get(60, TimeUnit.SECONDS);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        executor.shutdown();
+        awaitApplied();
+
+        log.info("{} pedidos de inscrição em {} threads: {} aceites, {} recusados (lotado), {} pedidos/s",
+                REQUESTS, THREADS, accepted.get(), full.get(), Math.round(REQUESTS / seconds));
+
+        assertThat(accepted.get()).isEqualTo(CAPACITY);
+        assertThat(full.get()).isEqualTo(REQUESTS - CAPACITY);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getCurrentRegistrations()).isEqualTo(CAPACITY);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM registrations WHERE event_id = ?",
+                Long.class, eventId)).isEqualTo(CAPACITY);
+    }
+
+    /**
+     * Espera que as inscrições aceites cheguem a currentRegistrations (imediato no modo database)
+     */
+    protected void awaitApplied() throws Exception {
+    }
+
+    private static CreateEventRequest request() {
+        CreateEventRequest request = new CreateEventRequest();
+        request.setTitle("Cerimónia de Graduação");
+        request.setDescription("Evento disputado por milhares de pedidos em simultâneo");
+        request.setEventDate(LocalDateTime.now().plusDays(30));
+        request.setLocation("Campus Principal");
+        request.setOrganizer("Reitoria");
+        request.setCategory(EventCategory.GRADUATION);
+        request.setMaxCapacity(CAPACITY);
+        request.setTags(new ArrayList<>(List.of("graduacao")));
+        return request;
+    }
+}
@@ -0,0 +1,159 @@
+package mz.uem.events.service;
+
+import mz.uem.events.config.RegistrationProperties;
+import mz.uem.events.dto.CreateEventRequest;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.repository.EventRepository;
+import mz.uem.events.repository.RegistrationCheckpointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uma instância que termina sem flush (queda do processo) não perde nem duplica
+ * inscrições: a seguinte reproduz do jornal exatamente as que faltam na base de dados,
+ * antes e depois de um checkpoint
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RegistrationJournalRecoveryTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path directory;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private InMemoryRegistrationEngine lastEngine;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (lastEngine != null) {
+            lastEngine.stop();
+        }
+    }
+
+    @Test
+    void replaysRegistrationsNeverFlushed() throws Exception {
+        Long first = createEvent();
+        Long second = createEvent();
+
+        InMemoryRegistrationEngine crashed = engine();
+        register(crashed, first, 5);
+        register(crashed, second, 3);
+        assertThat(registrations(first)).as("nada aplicado antes da queda").isZero();
+
+        engine();
+        assertThat(registrations(first)).isEqualTo(5);
+        assertThat(registrations(second)).isEqualTo(3);
+
+        // Um novo arranque não volta a aplicar o que já foi reproduzido
+        engine();
+        assertThat(registrations(first)).isEqualTo(5);
+        assertThat(registrations(second)).isEqualTo(3);
+    }
+
+    @Test
+    void replaysOnlyRegistrationsAfterCheckpoint() throws Exception {
+        Long eventId = createEvent();
+
+        InMemoryRegistrationEngine crashed = engine();
+        register(crashed, eventId, 4);
+        crashed.flush();
+        assertThat(registrations(eventId)).isEqualTo(4);
+        register(crashed, eventId, 3);
+
+        InMemoryRegistrationEngine restarted = engine();
+        assertThat(registrations(eventId)).isEqualTo(7);
+
+        // O contador recarregado parte do valor reproduzido
+        register(restarted, eventId, 2);
+        engine();
+        assertThat(registrations(eventId)).isEqualTo(9);
+    }
+
+    @Test
+    void misalignedRecordsAreNotCounted() throws Exception {
+        // Duas entradas, o resto de uma escrita interrompida e uma entrada desalinhada a seguir
+        byte[] torn = new byte[7];
+        Arrays.fill(torn, (byte) 1);
+        ByteBuffer segment = ByteBuffer.allocate(3 * 16 + torn.length);
+        segment.putLong(1).putLong(10).putLong(2).putLong(10).put(torn).putLong(3).putLong(10);
+        Files.write(directory.resolve(String.format("journal-%020d.log", 1)), segment.array());
+
+        RegistrationJournal.Recovery recovery = new RegistrationJournal(directory, false).recover(0);
+
+        assertThat(recovery.getCounts()).isEqualTo(Map.of(10L, 2));
+        assertThat(recovery.getLastSequence()).isEqualTo(2);
+    }
+
+    /**
+     * Nova instância sobre o mesmo jornal e checkpoint; a anterior é abandonada sem flush
+     */
+    private InMemoryRegistrationEngine engine() throws Exception {
+        RegistrationProperties properties = new RegistrationProperties();
+        properties.setMode(RegistrationProperties.Mode.MEMORY);
+        properties.setJournalDirectory(directory);
+        properties.setNodeId(nodeId);
+        properties.setFlushInterval(Duration.ofHours(1));
+        InMemoryRegistrationEngine engine = new InMemoryRegistrationEngine(eventRepository, checkpointRepository,
+                eventMapper, properties, transactionTemplate);
+        engine.start();
+        lastEngine = engine;
+        return engine;
+    }
+
+    private static void register(InMemoryRegistrationEngine engine, Long eventId, int count) {
+        for (int i = 0; i < count; i++) {
+            engine.register(eventId);
+        }
+    }
+
+    private int registrations(Long eventId) {
+        return transactionTemplate.execute(status ->
+                eventRepository.findById(eventId).orElseThrow().getCurrentRegistrations());
+    }
+
+    private Long createEvent() {
+        CreateEventRequest request = new CreateEventRequest();
+        request.setTitle("Workshop de Sistemas Distribuídos");
+        request.setDescription("Evento usado para verificar a reprodução do jornal de inscrições");
+        request.setEventDate(LocalDateTime.now().plusDays(14));
+        request.setLocation("Laboratório de Informática");
+        request.setOrganizer("Departamento de Matemática e Informática");
+        request.setCategory(EventCategory.WORKSHOP);
+        request.setMaxCapacity(40);
+        request.setTags(new ArrayList<>(List.of("sistemas")));
+        return eventService.createEvent(request).getId();
+    }
+}
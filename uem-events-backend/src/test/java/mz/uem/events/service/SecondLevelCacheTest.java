@@ -0,0 +1,244 @@
+package mz.uem.events.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import mz.uem.events.dto.CreateEventRequest;
+import mz.uem.events.entity.Event;
+import mz.uem.events.entity.EventCategory;
+import mz.uem.events.entity.EventStatus;
+import mz.uem.events.repository.EventRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * As escritas pelo EventService invalidam a cache de segundo nível: antes de cada escrita
+ * as regiões (entidade, tags e consultas) são aquecidas, e as leituras seguintes, cada uma
+ * numa transação nova, veem os dados escritos.
+ *
+ * As inscrições removem da cache apenas o evento inscrito: os outros continuam a ser
+ * lidos da região events.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Slf4j
+class SecondLevelCacheTest {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 100);
+
+    private static final int OTHER_EVENTS = 20;
+    private static final int REGISTRATIONS = 200;
+
+    /**
+     * Campos de um evento lidos dentro da transação
+     */
+    private record Row(Long id, String title, EventCategory category, EventStatus status,
+                       int registrations, List<String> tags) {
+
+        static Row of(Event event) {
+            return new Row(event.getId(), event.getTitle(), event.getCategory(), event.getStatus(),
+                    event.getCurrentRegistrations(), List.copyOf(event.getTags()));
+        }
+    }
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void writesInvalidateCachedEventsAndQueries() {
+        Long id = eventService.createEvent(request("Seminário de Redes", EventCategory.TECH,
+                EventStatus.UPCOMING, List.of("redes", "ti"))).getId();
+
+        warm(id, EventCategory.TECH);
+        Row cached = find(id);
+        assertThat(cached.title()).isEqualTo("Seminário de Redes");
+        assertThat(cached.tags()).containsExactly("redes", "ti");
+
+        eventService.updateEvent(id, request("Seminário de Redes Móveis", EventCategory.TECH,
+                EventStatus.UPCOMING, List.of("5g")));
+        Row updated = find(id);
+        assertThat(updated.title()).isEqualTo("Seminário de Redes Móveis");
+        assertThat(updated.tags()).containsExactly("5g");
+        assertThat(titleIn(byCategory(EventCategory.TECH), id)).isEqualTo("Seminário de Redes Móveis");
+
+        warm(id, EventCategory.TECH);
+        eventService.updateEvent(id, request("Seminário de Redes Móveis", EventCategory.SEMINAR,
+                EventStatus.UPCOMING, List.of("5g")));
+        assertThat(titleIn(byCategory(EventCategory.TECH), id)).as("sai de findByCategory(TECH)").isNull();
+        assertThat(titleIn(byCategory(EventCategory.SEMINAR), id)).as("entra em findByCategory(SEMINAR)").isNotNull();
+
+        warm(id, EventCategory.SEMINAR);
+        eventService.registerParticipant(id);
+        assertThat(find(id).registrations()).isEqualTo(1);
+        assertThat(registrationsIn(byStatus(EventStatus.UPCOMING), id)).isEqualTo(1);
+
+        warm(id, EventCategory.SEMINAR);
+        eventService.updateEvent(id, request("Seminário de Redes Móveis", EventCategory.SEMINAR,
+                EventStatus.CANCELLED, List.of("5g")));
+        assertThat(titleIn(upcoming(), id)).as("sai de findUpcomingEvents").isNull();
+        assertThat(titleIn(byStatus(EventStatus.UPCOMING), id)).as("sai de findByStatus(UPCOMING)").isNull();
+        assertThat(find(id).status()).isEqualTo(EventStatus.CANCELLED);
+
+        warm(id, EventCategory.SEMINAR);
+        eventService.deleteEvent(id);
+        assertThat(find(id)).as("findById vazio").isNull();
+        assertThat(titleIn(byCategory(EventCategory.SEMINAR), id)).as("sai de findByCategory(SEMINAR)").isNull();
+        assertThat(titleIn(byStatus(EventStatus.CANCELLED), id)).as("sai de findByStatus(CANCELLED)").isNull();
+    }
+
+    /**
+     * Inscrições sucessivas num evento enquanto outros são lidos: cada leitura dos outros
+     * continua a ser um acerto na região events, e o evento inscrito é lido atualizado
+     */
+    @Test
+    void registrationsKeepOtherEventsCached() {
+        Long busy = eventService.createEvent(request("Cerimónia de Abertura", EventCategory.CULTURAL,
+                EventStatus.UPCOMING, List.of("abertura"), REGISTRATIONS)).getId();
+        List<Long> others = new ArrayList<>();
+        for (int i = 0; i < OTHER_EVENTS; i++) {
+            others.add(eventService.createEvent(request("Palestra " + i, EventCategory.ACADEMIC,
+                    EventStatus.UPCOMING, List.of("palestra"))).getId());
+        }
+        others.forEach(this::find);
+        pause();
+
+        CacheRegionStatistics region = statistics.getCacheRegionStatistics(Event.CACHE_REGION);
+        long hitsBefore = region.getHitCount();
+        long missesBefore = region.getMissCount();
+        for (int i = 1; i <= REGISTRATIONS; i++) {
+            eventService.registerParticipant(busy);
+            others.forEach(this::find);
+            assertThat(find(busy).registrations()).isEqualTo(i);
+        }
+        long hits = region.getHitCount() - hitsBefore;
+        long misses = region.getMissCount() - missesBefore;
+
+        log.info("{} inscrições com {} eventos lidos em cada uma: {} acertos e {} falhas na região {} ({}% de acertos)",
+                REGISTRATIONS, OTHER_EVENTS + 1, hits, misses, Event.CACHE_REGION,
+                Math.round(100.0 * hits / (hits + misses)));
+        // Só o evento inscrito sai da cache; os outros são sempre acertos
+        assertThat(hits).isGreaterThanOrEqualTo((long) REGISTRATIONS * OTHER_EVENTS);
+        assertThat(misses).isLessThanOrEqualTo(2L * REGISTRATIONS);
+    }
+
+    /**
+     * Lê o evento e as consultas duas vezes e confirma que a segunda leitura veio da cache,
+     * para que a escrita seguinte tenha de facto entradas a invalidar
+     */
+    private void warm(Long id, EventCategory category) {
+        EventStatus status = find(id).status();
+        byCategory(category);
+        byStatus(status);
+        upcoming();
+        pause();
+
+        long entityHits = hits(Event.CACHE_REGION);
+        long tagHits = hits(Event.TAGS_CACHE_REGION);
+        long queryHits = hits(Event.QUERY_CACHE_REGION);
+        find(id);
+        byCategory(category);
+        byStatus(status);
+        assertThat(hits(Event.CACHE_REGION)).as("evento lido da região " + Event.CACHE_REGION)
+                .isGreaterThan(entityHits);
+        assertThat(hits(Event.TAGS_CACHE_REGION)).as("tags lidas da região " + Event.TAGS_CACHE_REGION)
+                .isGreaterThan(tagHits);
+        assertThat(hits(Event.QUERY_CACHE_REGION)).as("consultas lidas da região " + Event.QUERY_CACHE_REGION)
+                .isGreaterThanOrEqualTo(queryHits + 2);
+    }
+
+    private Row find(Long id) {
+        return transactionTemplate.execute(status -> repository.findById(id).map(Row::of).orElse(null));
+    }
+
+    private List<Row> byCategory(EventCategory category) {
+        return rows(repository -> repository.findByCategory(category, PAGE).getContent());
+    }
+
+    private List<Row> byStatus(EventStatus status) {
+        return rows(repository -> repository.findByStatus(status, PAGE).getContent());
+    }
+
+    private List<Row> upcoming() {
+        return rows(repository -> repository.findUpcomingEvents(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES)));
+    }
+
+    private List<Row> rows(Function<EventRepository, List<Event>> query) {
+        return transactionTemplate.execute(status -> query.apply(repository).stream().map(Row::of).toList());
+    }
+
+    private static String titleIn(List<Row> rows, Long id) {
+        return rows.stream().filter(row -> row.id().equals(id)).map(Row::title).findFirst().orElse(null);
+    }
+
+    private static int registrationsIn(List<Row> rows, Long id) {
+        return rows.stream().filter(row -> row.id().equals(id)).mapToInt(Row::registrations).findFirst().orElse(-1);
+    }
+
+    private long hits(String region) {
+        return statistics.getCacheRegionStatistics(region).getHitCount();
+    }
+
+    /**
+     * Uma entrada só é legível por transações iniciadas depois do instante em que foi
+     * gravada; sem esta pausa, leituras no mesmo milissegundo dariam falhas de cache
+     */
+    private static void pause() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static CreateEventRequest request(String title, EventCategory category, EventStatus status,
+                                              List<String> tags) {
+        return request(title, category, status, tags, 50);
+    }
+
+    private static CreateEventRequest request(String title, EventCategory category, EventStatus status,
+                                              List<String> tags, int capacity) {
+        CreateEventRequest request = new CreateEventRequest();
+        request.setTitle(title);
+        request.setDescription("Evento usado no teste da cache de segundo nível");
+        request.setEventDate(LocalDateTime.now().plusDays(7).truncatedTo(ChronoUnit.MINUTES));
+        request.setLocation("Campus Principal");
+        request.setOrganizer("Departamento de Informática");
+        request.setCategory(category);
+        request.setMaxCapacity(capacity);
+        request.setTags(new ArrayList<>(tags));
+        request.setStatus(status);
+        return request;
+    }
+}